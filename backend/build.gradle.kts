@@ -63,3 +63,37 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark", "stress")
+    }
+}
+
+// 마이크로벤치마크 (@Tag("benchmark")): ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// 동시성 스트레스 테스트 (@Tag("stress")): ./gradlew stressTest
+tasks.register<Test>("stressTest") {
+    description = "Runs stress-tagged concurrency tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
@@ -0,0 +1,96 @@
+package com.nextlevel.common;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 항목마다 만료 시각을 가지는 크기 제한 인메모리 캐시.
+ * 만료된 항목은 조회 시 제거되고, 최대 크기에 도달하면 만료 항목을 먼저 정리한 뒤
+ * 그래도 가득 차 있으면 일부 항목을 밀어내 메모리 사용량을 제한한다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    public ExpiringCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 만료되지 않은 값을 반환한다. 없거나 만료되었으면 null.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 값을 저장한다.
+     *
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (maxSize <= 0 || expiresAt <= clock.getAsLong()) return;
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom();
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * 만료되지 않은 값이 없을 때만 저장한다 (원자적).
+     *
+     * @return 이미 있던 값, 새로 저장했거나 저장할 수 없으면 null
+     */
+    public V putIfAbsent(K key, V value, long expiresAt) {
+        long now = clock.getAsLong();
+        if (maxSize <= 0 || expiresAt <= now) return null;
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom();
+        }
+        Entry<V> fresh = new Entry<>(value, expiresAt);
+        Entry<V> result = entries.compute(key,
+                (k, current) -> current != null && current.expiresAt() > now ? current : fresh);
+        return result == fresh ? null : result.value();
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 부족하면 최대 크기의 3/4까지 줄인다
+    private void makeRoom() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        int target = maxSize * 3 / 4;
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
@@ -1,21 +1,26 @@
 package com.nextlevel.domain.admin;
 
 import com.nextlevel.common.ApiResponse;
+import com.nextlevel.domain.admin.dto.DashboardResponse;
 import com.nextlevel.domain.booth.Booth;
 import com.nextlevel.domain.booth.BoothRepository;
-import com.nextlevel.domain.evaluation.EvaluationRepository;
+import com.nextlevel.domain.booth.BoothTrafficRecorder;
+import com.nextlevel.domain.booth.dto.BoothTraffic;
+import com.nextlevel.domain.booth.dto.TrafficWindowResponse;
+import com.nextlevel.domain.booth.dto.TrendingBooth;
+import com.nextlevel.domain.booth.dto.ZoneTraffic;
+import com.nextlevel.domain.evaluation.BoothRankingEngine;
+import com.nextlevel.domain.evaluation.dto.BoothVotes;
+import com.nextlevel.domain.evaluation.dto.RankingCheckResponse;
 import com.nextlevel.domain.gacha.GoodsRepository;
-import com.nextlevel.domain.user.UserRepository;
-import com.nextlevel.domain.visit.BoothVisitRepository;
-import lombok.Builder;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -23,34 +28,60 @@ import java.util.Map;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
-    private final UserRepository userRepository;
+    private static final int RANKING_SIZE = 10;
+
     private final BoothRepository boothRepository;
-    private final BoothVisitRepository boothVisitRepository;
-    private final EvaluationRepository evaluationRepository;
     private final GoodsRepository goodsRepository;
+    private final BoothRankingEngine boothRankingEngine;
+    private final BoothTrafficRecorder boothTrafficRecorder;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardStream dashboardStream;
 
+    // 집계는 인메모리 카운터에서 읽는다 (DB 조회 없음)
     @GetMapping("/dashboard")
     public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard() {
-        DashboardResponse dashboard = DashboardResponse.builder()
-                .totalUsers(userRepository.count())
-                .totalBooths(boothRepository.count())
-                .totalVisits(boothVisitRepository.count())
-                .totalEvaluations(evaluationRepository.count())
-                .build();
-        return ResponseEntity.ok(ApiResponse.success(dashboard));
+        return ResponseEntity.ok(ApiResponse.success(dashboardCounters.snapshot()));
+    }
+
+    // 관제 화면용: 구독 즉시 한 번, 이후 집계가 바뀔 때마다 "dashboard" 이벤트로 보낸다
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStream.subscribe();
     }
 
     @GetMapping("/booths/ranking")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getBoothRanking() {
-        List<Object[]> raw = evaluationRepository.findBoothRanking();
-        List<Map<String, Object>> ranking = raw.stream()
-                .limit(10)
-                .map(row -> Map.of(
-                        "boothId", row[0],
-                        "voteCount", row[1]
-                ))
-                .toList();
-        return ResponseEntity.ok(ApiResponse.success(ranking));
+    public ResponseEntity<ApiResponse<List<BoothVotes>>> getBoothRanking() {
+        return ResponseEntity.ok(ApiResponse.success(boothRankingEngine.top(RANKING_SIZE)));
+    }
+
+    @GetMapping("/booths/ranking/verify")
+    public ResponseEntity<ApiResponse<RankingCheckResponse>> verifyBoothRanking() {
+        return ResponseEntity.ok(ApiResponse.success(boothRankingEngine.verify()));
+    }
+
+    @PostMapping("/booths/ranking/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildBoothRanking() {
+        boothRankingEngine.rebuild();
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    // 방문 추이는 인메모리 링 버퍼에서만 계산한다 (최대 60분)
+    @GetMapping("/traffic/booths")
+    public ResponseEntity<ApiResponse<TrafficWindowResponse<BoothTraffic>>> getBoothTraffic(
+            @RequestParam(defaultValue = "30") int minutes) {
+        return ResponseEntity.ok(ApiResponse.success(boothTrafficRecorder.booths(minutes)));
+    }
+
+    @GetMapping("/traffic/zones")
+    public ResponseEntity<ApiResponse<TrafficWindowResponse<ZoneTraffic>>> getZoneTraffic(
+            @RequestParam(defaultValue = "30") int minutes) {
+        return ResponseEntity.ok(ApiResponse.success(boothTrafficRecorder.zones(minutes)));
+    }
+
+    @GetMapping("/traffic/trending")
+    public ResponseEntity<ApiResponse<List<TrendingBooth>>> getTrendingBooths(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(boothTrafficRecorder.trending(limit)));
     }
 
     @GetMapping("/goods/stock")
@@ -62,13 +93,4 @@ public class AdminController {
     public ResponseEntity<ApiResponse<List<Booth>>> getAllBooths() {
         return ResponseEntity.ok(ApiResponse.success(boothRepository.findAll()));
     }
-
-    @Getter
-    @Builder
-    public static class DashboardResponse {
-        private long totalUsers;
-        private long totalBooths;
-        private long totalVisits;
-        private long totalEvaluations;
-    }
 }
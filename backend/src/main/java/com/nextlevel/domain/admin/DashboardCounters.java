@@ -0,0 +1,121 @@
+package com.nextlevel.domain.admin;
+
+import com.nextlevel.domain.admin.dto.DashboardResponse;
+import com.nextlevel.domain.booth.BoothCatalog;
+import com.nextlevel.domain.evaluation.EvaluationRepository;
+import com.nextlevel.domain.evaluation.event.EvaluationSubmittedEvent;
+import com.nextlevel.domain.gacha.GachaAttemptRepository;
+import com.nextlevel.domain.gacha.event.GachaAttemptedEvent;
+import com.nextlevel.domain.point.PointLedgerRepository;
+import com.nextlevel.domain.point.event.PointBalanceChangedEvent;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 집계 카운터.
+ * 시작 시 DB 집계로 한 번 적재하고 이후에는 커밋된 쓰기 이벤트로만 증가시키므로 대시보드 조회는 DB를 읽지 않는다.
+ * 시드 데이터가 들어간 뒤, 웹 서버가 요청을 받기 전에 적재해 적재 전에 커밋된 쓰기가 두 번 세어지지 않게 한다.
+ * 부스 수는 부스 카탈로그 스냅샷에서 읽고, 사용자는 시드 데이터로만 생성되므로 시작 시 값을 유지한다.
+ */
+@Slf4j
+@Component
+@DependsOn("dataInitializer")
+@RequiredArgsConstructor
+public class DashboardCounters {
+
+    private final UserRepository userRepository;
+    private final BoothVisitRepository boothVisitRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final GachaAttemptRepository gachaAttemptRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final BoothCatalog boothCatalog;
+
+    private final LongAdder users = new LongAdder();
+    private final LongAdder visits = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder goodsSold = new LongAdder();
+    private final LongAdder pointsIssued = new LongAdder();
+    private final Map<String, LongAdder> zoneVisits = new ConcurrentHashMap<>();
+    // 카운터가 바뀔 때마다 증가 (SSE 전송 여부 판단용)
+    private final AtomicLong version = new AtomicLong();
+
+    @PostConstruct
+    void loadOnStartup() {
+        users.add(userRepository.count());
+        evaluations.add(evaluationRepository.count());
+        goodsSold.add(gachaAttemptRepository.count());
+        pointsIssued.add(pointLedgerRepository.sumCredited());
+        for (Object[] row : boothVisitRepository.countGroupByZone()) {
+            long count = ((Number) row[1]).longValue();
+            zoneVisits.computeIfAbsent((String) row[0], zone -> new LongAdder()).add(count);
+            visits.add(count);
+        }
+        version.incrementAndGet();
+        log.info("관리자 대시보드 카운터 적재 완료: 방문 {}건, 평가 {}건", visits.sum(), evaluations.sum());
+    }
+
+    @TransactionalEventListener
+    public void onVisitRecorded(VisitRecordedEvent event) {
+        visits.increment();
+        BoothCatalog.Entry booth = boothCatalog.snapshot().get(event.visit().getBoothId());
+        if (booth != null) {
+            zoneVisits.computeIfAbsent(booth.zone(), zone -> new LongAdder()).increment();
+        }
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onEvaluationSubmitted(EvaluationSubmittedEvent event) {
+        evaluations.increment();
+        version.incrementAndGet();
+    }
+
+    // 가챠 도전 한 번에 굿즈 하나가 나간다
+    @TransactionalEventListener
+    public void onGachaAttempted(GachaAttemptedEvent event) {
+        goodsSold.increment();
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onPointBalanceChanged(PointBalanceChangedEvent event) {
+        if (event.credited() > 0) {
+            pointsIssued.add(event.credited());
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 카운터 또는 부스 카탈로그가 바뀔 때마다 커지는 값. 둘 다 증가만 하므로 합이 같으면 바뀐 것이 없다.
+     */
+    public long version() {
+        return version.get() + boothCatalog.snapshot().version();
+    }
+
+    public DashboardResponse snapshot() {
+        Map<String, Long> zones = new TreeMap<>();
+        zoneVisits.forEach((zone, count) -> zones.put(zone, count.sum()));
+        return DashboardResponse.builder()
+                .totalUsers(users.sum())
+                .totalBooths(boothCatalog.snapshot().all().size())
+                .totalVisits(visits.sum())
+                .totalEvaluations(evaluations.sum())
+                .goodsSold(goodsSold.sum())
+                .pointsIssued(pointsIssued.sum())
+                .zoneVisits(zones)
+                .build();
+    }
+}
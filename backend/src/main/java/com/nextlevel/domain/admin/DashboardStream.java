@@ -0,0 +1,73 @@
+package com.nextlevel.domain.admin;
+
+import com.nextlevel.domain.admin.dto.DashboardResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 관리자 대시보드 SSE 구독자 목록.
+ * 구독 즉시 현재 집계를 한 번 보내고, 이후에는 주기마다 카운터가 바뀐 경우에만 모든 구독자에게 보낸다.
+ * 연결은 stream-timeout-ms 후 닫히며 클라이언트가 다시 구독한다.
+ */
+@Slf4j
+@Component
+public class DashboardStream {
+
+    static final String EVENT_NAME = "dashboard";
+
+    private final DashboardCounters dashboardCounters;
+    private final long timeoutMs;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private long sentVersion = -1;
+
+    public DashboardStream(
+            DashboardCounters dashboardCounters,
+            @Value("${admin.dashboard.stream-timeout-ms}") long timeoutMs) {
+        this.dashboardCounters = dashboardCounters;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        if (send(emitter, dashboardCounters.snapshot())) {
+            emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${admin.dashboard.push-interval-ms}")
+    public void push() {
+        long version = dashboardCounters.version();
+        if (version == sentVersion || emitters.isEmpty()) return;
+        sentVersion = version;
+
+        DashboardResponse dashboard = dashboardCounters.snapshot();
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, dashboard)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    // 끊긴 연결은 전송 실패로 드러나므로 정리만 하고 넘어간다
+    private boolean send(SseEmitter emitter, DashboardResponse dashboard) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(dashboard));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("대시보드 SSE 전송 실패, 구독 해제: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
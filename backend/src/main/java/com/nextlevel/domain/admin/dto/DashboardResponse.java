@@ -0,0 +1,18 @@
+package com.nextlevel.domain.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class DashboardResponse {
+    private long totalUsers;
+    private long totalBooths;
+    private long totalVisits;
+    private long totalEvaluations;
+    private long goodsSold;
+    private long pointsIssued;
+    private Map<String, Long> zoneVisits;  // 구역 → 방문 수 (구역명 순)
+}
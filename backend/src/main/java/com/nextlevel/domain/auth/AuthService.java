@@ -4,6 +4,7 @@ import com.nextlevel.domain.auth.dto.LoginRequest;
 import com.nextlevel.domain.auth.dto.LoginResponse;
 import com.nextlevel.domain.mission.UserMission;
 import com.nextlevel.domain.mission.UserMissionRepository;
+import com.nextlevel.domain.point.PointLedgerService;
 import com.nextlevel.domain.user.User;
 import com.nextlevel.domain.user.UserRepository;
 import com.nextlevel.exception.BusinessException;
@@ -22,6 +23,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserMissionRepository userMissionRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PointLedgerService pointLedgerService;
 
     @Transactional
     public LoginResponse login(LoginRequest request) {
@@ -36,7 +38,7 @@ public class AuthService {
         initMissionsIfNeeded(user);
 
         String token = jwtTokenProvider.generateToken(user.getEmployeeId(), user.getRole().name());
-        return LoginResponse.of(token, user);
+        return LoginResponse.of(token, user, pointLedgerService.getBalance(user.getEmployeeId()));
     }
 
     private void initMissionsIfNeeded(User user) {
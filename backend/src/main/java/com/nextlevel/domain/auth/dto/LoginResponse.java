@@ -15,12 +15,12 @@ public class LoginResponse {
     private int missionsCompleted;
     private String role;
 
-    public static LoginResponse of(String token, User user) {
+    public static LoginResponse of(String token, User user, int totalPoints) {
         return LoginResponse.builder()
                 .token(token)
                 .employeeId(user.getEmployeeId())
                 .name(user.getName())
-                .totalPoints(user.getTotalPoints())
+                .totalPoints(totalPoints)
                 .missionsCompleted(user.getMissionsCompleted())
                 .role(user.getRole().name())
                 .build();
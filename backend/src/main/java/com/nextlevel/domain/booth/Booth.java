@@ -6,6 +6,7 @@ import lombok.*;
 
 @Entity
 @Table(name = "booths")
+@EntityListeners(BoothCatalogListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -37,6 +38,7 @@ public class Booth extends BaseTimeEntity {
     @Column(nullable = false, length = 10)
     private String floor;
 
+    // BoothVisitorCounter가 주기적으로 반영하는 값 (실시간 값은 카운터 기준)
     @Column(nullable = false)
     @Builder.Default
     private int visitorCount = 0;
@@ -44,8 +46,4 @@ public class Booth extends BaseTimeEntity {
     // 부스 소유자 (사번) - 미션3(반드시 결과로) 용
     @Column(length = 20)
     private String ownerEmployeeId;
-
-    public void incrementVisitorCount() {
-        this.visitorCount++;
-    }
 }
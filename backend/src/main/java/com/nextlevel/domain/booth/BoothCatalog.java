@@ -0,0 +1,108 @@
+package com.nextlevel.domain.booth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부스 정적 정보(이름, 설명, 구역, 층, 이미지)의 불변 스냅샷.
+ * 부스가 바뀌면 세대 번호만 올리고, 다음 조회 시 한 번 다시 읽어 새 스냅샷으로 교체한다.
+ * 방문자 수처럼 자주 바뀌는 값은 담지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoothCatalog {
+
+    private final BoothRepository boothRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == generation.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            long version = generation.get();
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            // 적재 중에 무효화되면 버전이 뒤처져 다음 조회에서 다시 만든다
+            Snapshot rebuilt = Snapshot.of(version, boothRepository.findAll());
+            snapshot = rebuilt;
+            log.info("부스 카탈로그 스냅샷 생성: 버전 {}, 부스 {}개", version, rebuilt.all().size());
+            return rebuilt;
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public record Entry(
+            String boothId,
+            String name,
+            String shortDescription,
+            String longDescription,
+            String onlyoneValue,
+            String imageUrl,
+            String zone,
+            String floor,
+            String ownerEmployeeId) {
+
+        static Entry of(Booth booth) {
+            return new Entry(booth.getBoothId(), booth.getName(), booth.getShortDescription(),
+                    booth.getLongDescription(), booth.getOnlyoneValue(), booth.getImageUrl(),
+                    booth.getZone(), booth.getFloor(), booth.getOwnerEmployeeId());
+        }
+    }
+
+    // 모든 목록은 boothId 순서이며 수정할 수 없다
+    public record Snapshot(
+            long version,
+            List<Entry> all,
+            Map<String, Entry> byId,
+            Map<String, List<Entry>> byZone,
+            Map<String, List<Entry>> byFloor) {
+
+        static Snapshot of(long version, List<Booth> booths) {
+            List<Entry> all = booths.stream()
+                    .map(Entry::of)
+                    .sorted(Comparator.comparing(Entry::boothId))
+                    .toList();
+            return new Snapshot(
+                    version,
+                    all,
+                    all.stream().collect(Collectors.toUnmodifiableMap(Entry::boothId, Function.identity())),
+                    groupBy(all, Entry::zone),
+                    groupBy(all, Entry::floor));
+        }
+
+        private static Map<String, List<Entry>> groupBy(List<Entry> entries, Function<Entry, String> key) {
+            return entries.stream().collect(Collectors.collectingAndThen(
+                    Collectors.groupingBy(key, Collectors.toUnmodifiableList()), Map::copyOf));
+        }
+
+        public Entry get(String boothId) {
+            return byId.get(boothId);
+        }
+
+        public List<Entry> zone(String zone) {
+            return byZone.getOrDefault(zone, List.of());
+        }
+
+        public List<Entry> floor(String floor) {
+            return byFloor.getOrDefault(floor, List.of());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.common.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Booth 변경 시 카탈로그 스냅샷을 무효화하는 엔티티 리스너.
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로 카탈로그는 지연 조회한다.
+ */
+public class BoothCatalogListener {
+
+    private final ObjectProvider<BoothCatalog> boothCatalog;
+
+    public BoothCatalogListener(ObjectProvider<BoothCatalog> boothCatalog) {
+        this.boothCatalog = boothCatalog;
+    }
+
+    // 커밋 전에 다른 요청이 옛 데이터로 다시 만들 수 있으므로 커밋 이후에 무효화한다
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Booth booth) {
+        TransactionCallbacks.afterCommit(() -> boothCatalog.ifAvailable(BoothCatalog::invalidate));
+    }
+}
@@ -4,11 +4,14 @@ import com.nextlevel.common.ApiResponse;
 import com.nextlevel.domain.booth.dto.BoothDetailResponse;
 import com.nextlevel.domain.booth.dto.BoothResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/booths")
@@ -19,15 +22,34 @@ public class BoothController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<BoothResponse>>> getAllBooths(
-            @AuthenticationPrincipal String employeeId) {
-        return ResponseEntity.ok(ApiResponse.success(boothService.getAllBooths(employeeId)));
+            @AuthenticationPrincipal String employeeId,
+            WebRequest webRequest) {
+        return listResponse(employeeId, webRequest, () -> boothService.getAllBooths(employeeId));
     }
 
     @GetMapping("/zone/{zoneId}")
     public ResponseEntity<ApiResponse<List<BoothResponse>>> getBoothsByZone(
             @PathVariable String zoneId,
+            @AuthenticationPrincipal String employeeId,
+            WebRequest webRequest) {
+        return listResponse(employeeId, webRequest, () -> boothService.getBoothsByZone(zoneId, employeeId));
+    }
+
+    @GetMapping("/floor/{floor}")
+    public ResponseEntity<ApiResponse<List<BoothResponse>>> getBoothsByFloor(
+            @PathVariable String floor,
+            @AuthenticationPrincipal String employeeId,
+            WebRequest webRequest) {
+        return listResponse(employeeId, webRequest, () -> boothService.getBoothsByFloor(floor, employeeId));
+    }
+
+    // 입력 중 자동완성용이라 캐시 헤더 없이 바로 응답한다
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<BoothResponse>>> searchBooths(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit,
             @AuthenticationPrincipal String employeeId) {
-        return ResponseEntity.ok(ApiResponse.success(boothService.getBoothsByZone(zoneId, employeeId)));
+        return ResponseEntity.ok(ApiResponse.success(boothService.searchBooths(query, limit, employeeId)));
     }
 
     @GetMapping("/{boothId}")
@@ -36,4 +58,19 @@ public class BoothController {
             @AuthenticationPrincipal String employeeId) {
         return ResponseEntity.ok(ApiResponse.success(boothService.getBoothDetail(boothId, employeeId)));
     }
+
+    // 목록 버전이 같으면 목록을 만들지 않고 If-None-Match로 304 응답
+    // 방문자 수를 읽는 시점과 버전 사이에 틈이 있어 약한 ETag로 보낸다
+    // 방문 여부가 사용자마다 달라 private 캐시만 허용
+    private ResponseEntity<ApiResponse<List<BoothResponse>>> listResponse(
+            String employeeId, WebRequest webRequest, Supplier<List<BoothResponse>> booths) {
+        String etag = "W/\"" + boothService.listVersion(employeeId) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(booths.get()));
+    }
 }
@@ -1,6 +1,10 @@
 package com.nextlevel.domain.booth;
 
+import com.nextlevel.domain.booth.dto.BoothScanView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +16,18 @@ public interface BoothRepository extends JpaRepository<Booth, String> {
     List<Booth> findByFloor(String floor);
 
     Optional<Booth> findByOwnerEmployeeId(String ownerEmployeeId);
+
+    Optional<BoothScanView> findScanViewByBoothId(String boothId);
+
+    // 방문자 수를 booth_visits 건수로 다시 맞춘다 (카운터 적재 전)
+    @Modifying
+    @Query("""
+        UPDATE Booth b
+        SET b.visitorCount = CAST((SELECT COUNT(v) FROM BoothVisit v WHERE v.booth.boothId = b.boothId) AS Integer)
+        """)
+    int reconcileVisitorCounts();
+
+    // 카운터 적재용 (boothId, visitorCount)
+    @Query("SELECT b.boothId, b.visitorCount FROM Booth b")
+    List<Object[]> findAllVisitorCounts();
 }
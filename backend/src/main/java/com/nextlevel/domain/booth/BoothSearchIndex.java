@@ -0,0 +1,199 @@
+package com.nextlevel.domain.booth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부스 키워드 검색용 인메모리 역색인.
+ * 이름·한 줄 소개·상세 설명·OnlyOne 가치를 음절 bi-gram(한 글자 단어는 uni-gram)으로 색인한다.
+ * 형태소 분석 없이도 한국어 부분 문자열과 입력 중인 접두어가 그대로 매칭된다.
+ * 색인은 카탈로그 스냅샷 버전마다 한 번 만들고, 이후 조회는 락 없이 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoothSearchIndex {
+
+    private final BoothCatalog boothCatalog;
+
+    private volatile Index index;
+
+    /**
+     * 검색어와 일치하는 부스를 관련도 순으로 돌려준다.
+     * 검색어 토큰을 더 많이 포함한 부스가 먼저 오고, 같으면 필드 가중치 × 희소도 합이 큰 순서.
+     */
+    public List<BoothCatalog.Entry> search(String query, int limit) {
+        BoothCatalog.Snapshot snapshot = boothCatalog.snapshot();
+        Index current = index;
+        if (current == null || current.version != snapshot.version()) {
+            current = Index.of(snapshot);
+            index = current;
+        }
+        return current.search(query, limit);
+    }
+
+    // 필드 가중치: 이름 > OnlyOne 가치 > 한 줄 소개 > 상세 설명
+    enum Field {
+        NAME(4f), ONLYONE_VALUE(3f), SHORT_DESCRIPTION(2f), LONG_DESCRIPTION(1f);
+
+        final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+
+        String of(BoothCatalog.Entry booth) {
+            return switch (this) {
+                case NAME -> booth.name();
+                case ONLYONE_VALUE -> booth.onlyoneValue();
+                case SHORT_DESCRIPTION -> booth.shortDescription();
+                case LONG_DESCRIPTION -> booth.longDescription();
+            };
+        }
+    }
+
+    static final class Index {
+
+        private static final float NAME_PREFIX_BOOST = 8f;
+
+        private final long version;
+        private final List<BoothCatalog.Entry> booths;
+        private final String[] normalizedNames;
+        private final Map<String, Posting> postings;
+
+        private Index(long version, List<BoothCatalog.Entry> booths,
+                      String[] normalizedNames, Map<String, Posting> postings) {
+            this.version = version;
+            this.booths = booths;
+            this.normalizedNames = normalizedNames;
+            this.postings = postings;
+        }
+
+        static Index of(BoothCatalog.Snapshot snapshot) {
+            List<BoothCatalog.Entry> booths = snapshot.all();
+            String[] names = new String[booths.size()];
+            // 토큰 → (부스 순번 → 필드 가중치 × 출현 횟수)
+            Map<String, Map<Integer, Float>> weights = new HashMap<>();
+            for (int doc = 0; doc < booths.size(); doc++) {
+                BoothCatalog.Entry booth = booths.get(doc);
+                names[doc] = String.join("", words(booth.name()));
+                for (Field field : Field.values()) {
+                    for (String token : indexTokens(field.of(booth))) {
+                        weights.computeIfAbsent(token, t -> new HashMap<>())
+                                .merge(doc, field.weight, Float::sum);
+                    }
+                }
+            }
+            Map<String, Posting> postings = new HashMap<>(weights.size() * 2);
+            weights.forEach((token, byDoc) -> postings.put(token, Posting.of(byDoc, booths.size())));
+            return new Index(snapshot.version(), booths, names, postings);
+        }
+
+        List<BoothCatalog.Entry> search(String query, int limit) {
+            List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokens(query)));
+            if (queryTokens.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            int[] matched = new int[booths.size()];
+            float[] scores = new float[booths.size()];
+            for (String token : queryTokens) {
+                Posting posting = postings.get(token);
+                if (posting == null) continue;
+                for (int i = 0; i < posting.docs.length; i++) {
+                    matched[posting.docs[i]]++;
+                    scores[posting.docs[i]] += posting.weights[i] * posting.idf;
+                }
+            }
+            String prefix = String.join("", words(query));
+            List<Integer> hits = new ArrayList<>();
+            for (int doc = 0; doc < booths.size(); doc++) {
+                // 오타·띄어쓰기 차이를 허용하되 토큰 절반 이상은 일치해야 한다
+                if (matched[doc] * 2 < queryTokens.size()) continue;
+                if (normalizedNames[doc].startsWith(prefix)) {
+                    scores[doc] += NAME_PREFIX_BOOST;
+                }
+                hits.add(doc);
+            }
+            hits.sort((a, b) -> {
+                if (matched[a] != matched[b]) return Integer.compare(matched[b], matched[a]);
+                if (scores[a] != scores[b]) return Float.compare(scores[b], scores[a]);
+                return booths.get(a).boothId().compareTo(booths.get(b).boothId());
+            });
+            return hits.stream().limit(limit).map(booths::get).toList();
+        }
+    }
+
+    private record Posting(int[] docs, float[] weights, float idf) {
+
+        static Posting of(Map<Integer, Float> byDoc, int docCount) {
+            int[] docs = byDoc.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            float[] weights = new float[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                weights[i] = byDoc.get(docs[i]);
+            }
+            float idf = (float) Math.log(1 + (double) docCount / docs.length);
+            return new Posting(docs, weights, idf);
+        }
+    }
+
+    // 한 글자 검색어가 그 글자로 시작하는 단어와 맞도록 단어 첫 글자도 색인한다
+    static List<String> indexTokens(String text) {
+        List<String> tokens = tokens(text);
+        for (String word : words(text)) {
+            if (word.length() > 1) {
+                tokens.add(word.substring(0, 1));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 음절 bi-gram 토큰. 공백·문장부호로 단어를 나누고, 한 글자 단어는 그 글자 자체를 토큰으로 쓴다.
+     * 입력 중인 자모(ㄱ, ㅏ 등)는 버린다.
+     */
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c) && !isJamo(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static boolean isJamo(char c) {
+        return (c >= 'ㄱ' && c <= 'ㆎ') || (c >= 'ᄀ' && c <= 'ᇿ');
+    }
+}
@@ -3,12 +3,15 @@ package com.nextlevel.domain.booth;
 import com.nextlevel.domain.booth.dto.BoothDetailResponse;
 import com.nextlevel.domain.booth.dto.BoothResponse;
 import com.nextlevel.domain.evaluation.EvaluationRepository;
-import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.VisitedBoothIndex;
+import com.nextlevel.exception.BusinessException;
 import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -16,33 +19,80 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BoothService {
 
-    private final BoothRepository boothRepository;
-    private final BoothVisitRepository boothVisitRepository;
+    // 미방문 부스가 먼저, 같은 그룹 안에서는 boothId 순서
+    private static final Comparator<BoothResponse> UNVISITED_FIRST =
+            Comparator.comparing(BoothResponse::isVisited).thenComparing(BoothResponse::getBoothId);
+
+    private static final int SEARCH_QUERY_MAX_LENGTH = 50;
+    private static final int SEARCH_MAX_RESULTS = 50;
+
+    private final BoothCatalog boothCatalog;
+    private final BoothSearchIndex boothSearchIndex;
+    private final VisitedBoothIndex visitedBoothIndex;
+    private final BoothVisitorCounter boothVisitorCounter;
     private final EvaluationRepository evaluationRepository;
 
+    // 재시작하면 버전이 0부터 다시 세어지므로 이전 프로세스의 ETag와 겹치지 않게 붙인다
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * 부스 목록의 버전. 카탈로그 세대, 방문자 수 버전, 사용자의 방문 부스 수가 모두 같으면 목록도 같다.
+     * 목록을 만들기 전에 비교할 수 있도록 내용이 아니라 버전으로 만든다.
+     */
+    public String listVersion(String employeeId) {
+        return epoch + "-" + Long.toString(boothCatalog.snapshot().version(), 36)
+                + "-" + Long.toString(boothVisitorCounter.version(), 36)
+                + "-" + Integer.toHexString(String.valueOf(employeeId).hashCode())
+                + "-" + visitedBoothIndex.visitedCount(employeeId);
+    }
+
+    // 정적 정보는 카탈로그 스냅샷, 방문 여부는 인덱스, 방문자 수는 카운터에서 합친다
     public List<BoothResponse> getAllBooths(String employeeId) {
-        return boothRepository.findAll().stream()
-                .map(booth -> BoothResponse.of(booth,
-                        boothVisitRepository.existsByBoothBoothIdAndUserEmployeeId(booth.getBoothId(), employeeId)))
-                .sorted((a, b) -> Boolean.compare(a.isVisited(), b.isVisited()))
-                .toList();
+        return toResponses(boothCatalog.snapshot().all(), employeeId);
     }
 
     public List<BoothResponse> getBoothsByZone(String zoneId, String employeeId) {
-        return boothRepository.findByZone(zoneId).stream()
-                .map(booth -> BoothResponse.of(booth,
-                        boothVisitRepository.existsByBoothBoothIdAndUserEmployeeId(booth.getBoothId(), employeeId)))
-                .sorted((a, b) -> Boolean.compare(a.isVisited(), b.isVisited()))
+        return toResponses(boothCatalog.snapshot().zone(zoneId), employeeId);
+    }
+
+    public List<BoothResponse> getBoothsByFloor(String floor, String employeeId) {
+        return toResponses(boothCatalog.snapshot().floor(floor), employeeId);
+    }
+
+    // 관련도 순서를 유지한다 (미방문 우선 정렬을 하지 않음)
+    public List<BoothResponse> searchBooths(String query, int limit, String employeeId) {
+        if (query.length() > SEARCH_QUERY_MAX_LENGTH) {
+            throw new BusinessException("검색어는 " + SEARCH_QUERY_MAX_LENGTH + "자 이하로 입력해주세요.",
+                    HttpStatus.BAD_REQUEST, "SEARCH_QUERY_TOO_LONG");
+        }
+        return boothSearchIndex.search(query, Math.min(limit, SEARCH_MAX_RESULTS)).stream()
+                .map(booth -> toResponse(booth, employeeId))
                 .toList();
     }
 
     public BoothDetailResponse getBoothDetail(String boothId, String employeeId) {
-        Booth booth = boothRepository.findById(boothId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 부스입니다."));
+        BoothCatalog.Entry booth = boothCatalog.snapshot().get(boothId);
+        if (booth == null) {
+            throw new EntityNotFoundException("존재하지 않는 부스입니다.");
+        }
 
-        boolean visited = boothVisitRepository.existsByBoothBoothIdAndUserEmployeeId(boothId, employeeId);
+        boolean visited = visitedBoothIndex.hasVisited(employeeId, boothId);
         boolean evaluated = evaluationRepository.existsByBoothBoothIdAndUserEmployeeId(boothId, employeeId);
 
-        return BoothDetailResponse.of(booth, visited, evaluated);
+        return BoothDetailResponse.of(booth, boothVisitorCounter.get(boothId), visited, evaluated);
+    }
+
+    private List<BoothResponse> toResponses(List<BoothCatalog.Entry> booths, String employeeId) {
+        return booths.stream()
+                .map(booth -> toResponse(booth, employeeId))
+                .sorted(UNVISITED_FIRST)
+                .toList();
+    }
+
+    private BoothResponse toResponse(BoothCatalog.Entry booth, String employeeId) {
+        return BoothResponse.of(
+                booth,
+                boothVisitorCounter.get(booth.boothId()),
+                visitedBoothIndex.hasVisited(employeeId, booth.boothId()));
     }
 }
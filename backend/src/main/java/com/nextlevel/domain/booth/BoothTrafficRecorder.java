@@ -0,0 +1,177 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.domain.booth.dto.BoothTraffic;
+import com.nextlevel.domain.booth.dto.TrafficWindowResponse;
+import com.nextlevel.domain.booth.dto.TrendingBooth;
+import com.nextlevel.domain.booth.dto.ZoneTraffic;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 부스별 분당 방문 수 링 버퍼.
+ * 부스마다 최근 {@value #WINDOW_MINUTES}분 칸만 두고, 칸에 기록된 분이 지나면 다음 기록 때 덮어쓴다.
+ * 메모리는 부스 수에 비례해 고정되며 조회 시 booth_visits를 읽지 않는다.
+ */
+@Component
+public class BoothTrafficRecorder {
+
+    static final int WINDOW_MINUTES = 60;
+    static final int RECENT_MINUTES = 5;
+    static final int BASELINE_MINUTES = 30;
+
+    private static final long MINUTE_MS = 60_000L;
+
+    private final BoothCatalog boothCatalog;
+    private final LongSupplier clock;
+    private final Map<String, MinuteRing> rings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BoothTrafficRecorder(BoothCatalog boothCatalog) {
+        this(boothCatalog, System::currentTimeMillis);
+    }
+
+    BoothTrafficRecorder(BoothCatalog boothCatalog, LongSupplier clock) {
+        this.boothCatalog = boothCatalog;
+        this.clock = clock;
+    }
+
+    // 커밋된 방문만 센다 (단건·일괄 스캔 모두 같은 이벤트를 발행)
+    @TransactionalEventListener
+    public void onVisitRecorded(VisitRecordedEvent event) {
+        record(event.visit().getBoothId());
+    }
+
+    void record(String boothId) {
+        rings.computeIfAbsent(boothId, id -> new MinuteRing()).add(currentMinute());
+    }
+
+    /** 최근 N분 부스별 방문 수, 방문이 많은 부스부터. */
+    public TrafficWindowResponse<BoothTraffic> booths(int minutes) {
+        int window = clampWindow(minutes);
+        long now = currentMinute();
+        List<BoothTraffic> series = boothCatalog.snapshot().all().stream()
+                .map(booth -> {
+                    long[] counts = series(booth.boothId(), now, window);
+                    return new BoothTraffic(booth.boothId(), booth.name(), booth.zone(), toList(counts), sum(counts));
+                })
+                .sorted(Comparator.comparingLong(BoothTraffic::total).reversed()
+                        .thenComparing(BoothTraffic::boothId))
+                .toList();
+        return new TrafficWindowResponse<>(startOf(now, window), window, series);
+    }
+
+    /** 최근 N분 구역별 방문 수 합계, 구역 이름순. */
+    public TrafficWindowResponse<ZoneTraffic> zones(int minutes) {
+        int window = clampWindow(minutes);
+        long now = currentMinute();
+        List<ZoneTraffic> series = boothCatalog.snapshot().byZone().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(zone -> {
+                    long[] counts = new long[window];
+                    for (BoothCatalog.Entry booth : zone.getValue()) {
+                        long[] boothCounts = series(booth.boothId(), now, window);
+                        for (int i = 0; i < window; i++) {
+                            counts[i] += boothCounts[i];
+                        }
+                    }
+                    return new ZoneTraffic(zone.getKey(), zone.getValue().size(), toList(counts), sum(counts));
+                })
+                .toList();
+        return new TrafficWindowResponse<>(startOf(now, window), window, series);
+    }
+
+    /**
+     * 최근 {@value #RECENT_MINUTES}분의 분당 방문 속도를 직전 {@value #BASELINE_MINUTES}분과 비교해
+     * 상승폭이 큰 부스를 돌려준다. 최근 구간에 방문이 없는 부스는 제외한다.
+     */
+    public List<TrendingBooth> trending(int limit) {
+        long now = currentMinute();
+        List<TrendingBooth> trending = new ArrayList<>();
+        for (BoothCatalog.Entry booth : boothCatalog.snapshot().all()) {
+            long[] counts = series(booth.boothId(), now, RECENT_MINUTES + BASELINE_MINUTES);
+            long baseline = sum(Arrays.copyOfRange(counts, 0, BASELINE_MINUTES));
+            long recent = sum(Arrays.copyOfRange(counts, BASELINE_MINUTES, counts.length));
+            if (recent == 0) continue;
+            double recentRate = (double) recent / RECENT_MINUTES;
+            double baselineRate = (double) baseline / BASELINE_MINUTES;
+            trending.add(new TrendingBooth(booth.boothId(), booth.name(), booth.zone(),
+                    recentRate, baselineRate, (recentRate + 1) / (baselineRate + 1)));
+        }
+        return trending.stream()
+                .sorted(Comparator.comparingDouble(TrendingBooth::lift).reversed()
+                        .thenComparing(Comparator.comparingDouble(TrendingBooth::recentPerMinute).reversed())
+                        .thenComparing(TrendingBooth::boothId))
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    private long[] series(String boothId, long nowMinute, int window) {
+        MinuteRing ring = rings.get(boothId);
+        return ring == null ? new long[window] : ring.copy(nowMinute, window);
+    }
+
+    private long currentMinute() {
+        return clock.getAsLong() / MINUTE_MS;
+    }
+
+    private static int clampWindow(int minutes) {
+        return Math.min(Math.max(minutes, 1), WINDOW_MINUTES);
+    }
+
+    private static LocalDateTime startOf(long nowMinute, int window) {
+        return LocalDateTime.ofInstant(
+                Instant.ofEpochMilli((nowMinute - window + 1) * MINUTE_MS), ZoneId.systemDefault());
+    }
+
+    private static long sum(long[] counts) {
+        return Arrays.stream(counts).sum();
+    }
+
+    private static List<Long> toList(long[] counts) {
+        return Arrays.stream(counts).boxed().toList();
+    }
+
+    // 칸마다 기록된 분(epoch minute)을 함께 두어 지난 분의 값은 0으로 읽는다
+    private static final class MinuteRing {
+
+        private final long[] minutes = new long[WINDOW_MINUTES];
+        private final long[] counts = new long[WINDOW_MINUTES];
+
+        MinuteRing() {
+            Arrays.fill(minutes, -1);
+        }
+
+        synchronized void add(long minute) {
+            int slot = (int) (minute % WINDOW_MINUTES);
+            if (minutes[slot] != minute) {
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        // 오래된 분부터 현재 분까지
+        synchronized long[] copy(long nowMinute, int window) {
+            long[] result = new long[window];
+            for (int i = 0; i < window; i++) {
+                long minute = nowMinute - window + 1 + i;
+                int slot = (int) (minute % WINDOW_MINUTES);
+                result[i] = minutes[slot] == minute ? counts[slot] : 0;
+            }
+            return result;
+        }
+    }
+}
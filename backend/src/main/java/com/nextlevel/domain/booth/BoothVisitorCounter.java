@@ -0,0 +1,141 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.common.TransactionCallbacks;
+import com.nextlevel.domain.booth.event.BoothVisitorMilestoneEvent;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부스 방문자 수 인메모리 카운터.
+ * 방문이 커밋되면 부스별 LongAdder만 증가시켜 인기 부스의 행 락 경합을 없애고,
+ * booths.visitor_count에는 주기적으로 증가분만 한 번의 배치 UPDATE로 반영한다.
+ * 반영 전에 서버가 내려가도 시작 시 booth_visits 건수로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoothVisitorCounter {
+
+    static final int MILESTONE_STEP = 10;
+
+    private static final String FLUSH_SQL =
+            "UPDATE booths SET visitor_count = visitor_count + ? WHERE booth_id = ?";
+
+    private final BoothRepository boothRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    // 방문자 수가 바뀔 때마다 증가 (부스 목록 ETag용)
+    private final AtomicLong version = new AtomicLong();
+
+    // 웹 서버가 요청을 받기 전에 적재해 방문 이벤트로 생긴 카운터를 덮어쓰지 않는다
+    // 적재 뒤에 생기는 부스는 방문 기록이 없으므로 첫 방문 때 0부터 센다
+    @PostConstruct
+    void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            boothRepository.reconcileVisitorCounts();
+            boothRepository.findAllVisitorCounts()
+                    .forEach(row -> counters.put((String) row[0], new Counter(((Number) row[1]).longValue())));
+        });
+        log.info("부스 방문자 수 카운터 적재 완료: 부스 {}개", counters.size());
+    }
+
+    public int get(String boothId) {
+        Counter counter = counters.get(boothId);
+        return counter == null ? 0 : (int) counter.count.sum();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // 방문이 커밋된 뒤에만 센다 (롤백된 방문은 반영되지 않음)
+    @TransactionalEventListener
+    public void onVisitRecorded(VisitRecordedEvent event) {
+        String boothId = event.visit().getBoothId();
+        Counter counter = counters.computeIfAbsent(boothId, id -> new Counter(0));
+        counter.count.increment();
+        version.incrementAndGet();
+        publishMilestones(boothId, event.boothOwnerEmployeeId(), counter);
+    }
+
+    /**
+     * 기준 단위의 배수를 넘었으면 넘은 배수마다 한 번씩 알린다.
+     * 동시 증가로 합계가 건너뛰어도 CAS로 구간을 나눠 가지므로 누락·중복 없이 발행된다.
+     */
+    private void publishMilestones(String boothId, String ownerEmployeeId, Counter counter) {
+        long reached = counter.count.sum() / MILESTONE_STEP * MILESTONE_STEP;
+        long published;
+        do {
+            published = counter.milestone.get();
+            if (reached <= published) return;
+        } while (!counter.milestone.compareAndSet(published, reached));
+
+        for (long milestone = published + MILESTONE_STEP; milestone <= reached; milestone += MILESTONE_STEP) {
+            eventPublisher.publishEvent(new BoothVisitorMilestoneEvent(boothId, ownerEmployeeId, (int) milestone));
+        }
+    }
+
+    // 마지막 반영 이후 증가분만 배치 UPDATE로 반영한다
+    // 동시에 두 번 반영하지 않도록 직렬화하고, 반영 위치는 먼저 옮긴 뒤 롤백되면 되돌린다
+    @Scheduled(fixedDelayString = "${booth.visitor-count-flush-interval-ms}")
+    @Transactional
+    public synchronized void flush() {
+        Map<Counter, Long> deltas = new HashMap<>();
+        List<Object[]> args = new ArrayList<>();
+        counters.forEach((boothId, counter) -> {
+            long total = counter.count.sum();
+            long delta = total - counter.flushed;
+            if (delta > 0) {
+                counter.flushed = total;
+                deltas.put(counter, delta);
+                args.add(new Object[]{delta, boothId});
+            }
+        });
+        if (args.isEmpty()) return;
+
+        TransactionCallbacks.afterRollback(() -> deltas.forEach((counter, delta) -> counter.flushed -= delta));
+        jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        log.debug("부스 방문자 수 반영: 부스 {}개", args.size());
+    }
+
+    // flush()를 직접 부르면 프록시를 건너뛰어 트랜잭션 없이 실행되므로 템플릿으로 감싼다
+    @PreDestroy
+    public void flushOnShutdown() {
+        transactionTemplate.executeWithoutResult(status -> flush());
+    }
+
+    private static final class Counter {
+
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong milestone;
+        // DB에 반영된 누적값 (flush에서만 갱신)
+        private volatile long flushed;
+
+        Counter(long initial) {
+            count.add(initial);
+            flushed = initial;
+            milestone = new AtomicLong(initial / MILESTONE_STEP * MILESTONE_STEP);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.nextlevel.domain.booth.dto;
 
-import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothCatalog;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,17 +20,17 @@ public class BoothDetailResponse {
     private boolean visited;
     private boolean evaluated;
 
-    public static BoothDetailResponse of(Booth booth, boolean visited, boolean evaluated) {
+    public static BoothDetailResponse of(BoothCatalog.Entry booth, int visitorCount, boolean visited, boolean evaluated) {
         return BoothDetailResponse.builder()
-                .boothId(booth.getBoothId())
-                .name(booth.getName())
-                .shortDescription(booth.getShortDescription())
-                .longDescription(booth.getLongDescription())
-                .onlyoneValue(booth.getOnlyoneValue())
-                .imageUrl(booth.getImageUrl())
-                .zone(booth.getZone())
-                .floor(booth.getFloor())
-                .visitorCount(booth.getVisitorCount())
+                .boothId(booth.boothId())
+                .name(booth.name())
+                .shortDescription(booth.shortDescription())
+                .longDescription(booth.longDescription())
+                .onlyoneValue(booth.onlyoneValue())
+                .imageUrl(booth.imageUrl())
+                .zone(booth.zone())
+                .floor(booth.floor())
+                .visitorCount(visitorCount)
                 .visited(visited)
                 .evaluated(evaluated)
                 .build();
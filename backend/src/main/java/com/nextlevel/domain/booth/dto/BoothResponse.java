@@ -1,6 +1,6 @@
 package com.nextlevel.domain.booth.dto;
 
-import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothCatalog;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -17,15 +17,16 @@ public class BoothResponse {
     private int visitorCount;
     private boolean visited;
 
-    public static BoothResponse of(Booth booth, boolean visited) {
+    // 방문자 수는 BoothVisitorCounter의 실시간 값을 받는다
+    public static BoothResponse of(BoothCatalog.Entry booth, int visitorCount, boolean visited) {
         return BoothResponse.builder()
-                .boothId(booth.getBoothId())
-                .name(booth.getName())
-                .shortDescription(booth.getShortDescription())
-                .imageUrl(booth.getImageUrl())
-                .zone(booth.getZone())
-                .floor(booth.getFloor())
-                .visitorCount(booth.getVisitorCount())
+                .boothId(booth.boothId())
+                .name(booth.name())
+                .shortDescription(booth.shortDescription())
+                .imageUrl(booth.imageUrl())
+                .zone(booth.zone())
+                .floor(booth.floor())
+                .visitorCount(visitorCount)
                 .visited(visited)
                 .build();
     }
@@ -0,0 +1,11 @@
+package com.nextlevel.domain.booth.dto;
+
+/**
+ * 스캔 처리에 필요한 부스 컬럼만 조회하는 프로젝션.
+ */
+public interface BoothScanView {
+
+    String getName();
+
+    String getOwnerEmployeeId();
+}
@@ -0,0 +1,12 @@
+package com.nextlevel.domain.booth.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최근 N분 방문 추이.
+ *
+ * @param from    첫 번째 분의 시작 시각
+ * @param minutes 분 단위 구간 수
+ */
+public record TrafficWindowResponse<T>(LocalDateTime from, int minutes, List<T> series) {}
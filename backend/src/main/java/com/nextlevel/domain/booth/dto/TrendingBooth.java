@@ -0,0 +1,16 @@
+package com.nextlevel.domain.booth.dto;
+
+/**
+ * 최근 구간 방문 속도가 직전 기준 구간보다 크게 오른 부스.
+ *
+ * @param recentPerMinute   최근 구간의 분당 방문 수
+ * @param baselinePerMinute 직전 기준 구간의 분당 방문 수
+ * @param lift              (최근 + 1) / (기준 + 1), 방문이 적은 부스의 급등 과대평가를 줄인다
+ */
+public record TrendingBooth(
+        String boothId,
+        String name,
+        String zone,
+        double recentPerMinute,
+        double baselinePerMinute,
+        double lift) {}
@@ -0,0 +1,10 @@
+package com.nextlevel.domain.booth.dto;
+
+import java.util.List;
+
+/**
+ * 구역별 분당 방문 수 (구역 내 부스 합계).
+ *
+ * @param perMinute 오래된 분부터 현재 분까지의 방문 수 (마지막 값은 진행 중인 분)
+ */
+public record ZoneTraffic(String zone, int boothCount, List<Long> perMinute, long total) {}
@@ -0,0 +1,9 @@
+package com.nextlevel.domain.booth.event;
+
+/**
+ * 부스 방문자 수가 기준 단위(10명)의 배수에 도달함.
+ *
+ * @param boothOwnerEmployeeId 부스 소유자 (없으면 null)
+ * @param visitorCount         도달한 방문자 수 (기준 단위의 배수)
+ */
+public record BoothVisitorMilestoneEvent(String boothId, String boothOwnerEmployeeId, int visitorCount) {}
@@ -7,7 +7,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 부스별 최신순 커서 페이지 조회용
+        @Index(name = "idx_comments_booth_created", columnList = "booth_id, created_at, comment_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.nextlevel.domain.comment;
 
 import com.nextlevel.common.ApiResponse;
+import com.nextlevel.domain.comment.dto.CommentPageResponse;
 import com.nextlevel.domain.comment.dto.CommentRequest;
 import com.nextlevel.domain.comment.dto.CommentResponse;
 import jakarta.validation.Valid;
@@ -10,8 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/booths/{boothId}/comments")
 @RequiredArgsConstructor
@@ -20,8 +19,11 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentResponse>>> getComments(@PathVariable String boothId) {
-        return ResponseEntity.ok(ApiResponse.success(commentService.getComments(boothId)));
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable String boothId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.getComments(boothId, cursor, size)));
     }
 
     @PostMapping
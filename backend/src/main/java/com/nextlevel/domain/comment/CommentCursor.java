@@ -0,0 +1,35 @@
+package com.nextlevel.domain.comment;
+
+import com.nextlevel.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서. 마지막으로 받은 댓글의 (작성 시각, ID)를 담는다.
+ * 클라이언트에는 내용을 해석하지 않도록 Base64URL 문자열로 전달한다.
+ */
+record CommentCursor(LocalDateTime createdAt, Long commentId) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST, "COMMENT_CURSOR_INVALID");
+        }
+    }
+}
@@ -1,12 +1,47 @@
 package com.nextlevel.domain.comment;
 
+import com.nextlevel.domain.comment.dto.CommentResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByBoothBoothIdOrderByCreatedAtDesc(String boothId);
+    // 작성자 이름까지 한 번에 조회 (최신순 첫 페이지)
+    @Query("""
+        SELECT new com.nextlevel.domain.comment.dto.CommentResponse(
+            c.commentId, u.name, c.suggestion, c.expectedEffect, c.createdAt)
+        FROM Comment c JOIN c.user u
+        WHERE c.booth.boothId = :boothId
+        ORDER BY c.createdAt DESC, c.commentId DESC
+        """)
+    List<CommentResponse> findPage(@Param("boothId") String boothId, Limit limit);
+
+    // 커서 (createdAt, commentId)보다 오래된 댓글
+    @Query("""
+        SELECT new com.nextlevel.domain.comment.dto.CommentResponse(
+            c.commentId, u.name, c.suggestion, c.expectedEffect, c.createdAt)
+        FROM Comment c JOIN c.user u
+        WHERE c.booth.boothId = :boothId
+          AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :commentId))
+        ORDER BY c.createdAt DESC, c.commentId DESC
+        """)
+    List<CommentResponse> findPageBefore(@Param("boothId") String boothId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("commentId") Long commentId,
+                                         Limit limit);
+
+    long countByBoothBoothId(String boothId);
 
     boolean existsByBoothBoothIdAndUserEmployeeId(String boothId, String employeeId);
+
+    long countByUserEmployeeId(String employeeId);
+
+    // 미션 재계산용 (employeeId, 댓글 수)
+    @Query("SELECT c.user.employeeId, COUNT(c) FROM Comment c GROUP BY c.user.employeeId")
+    List<Object[]> countGroupByUser();
 }
@@ -1,15 +1,20 @@
 package com.nextlevel.domain.comment;
 
+import com.nextlevel.common.ExpiringCache;
+import com.nextlevel.common.TransactionCallbacks;
 import com.nextlevel.domain.booth.Booth;
 import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.comment.dto.CommentPageResponse;
 import com.nextlevel.domain.comment.dto.CommentRequest;
 import com.nextlevel.domain.comment.dto.CommentResponse;
-import com.nextlevel.domain.mission.MissionService;
+import com.nextlevel.domain.comment.event.CommentAddedEvent;
 import com.nextlevel.domain.user.User;
 import com.nextlevel.domain.user.UserRepository;
 import com.nextlevel.exception.BusinessException;
 import com.nextlevel.exception.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,18 +22,73 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final BoothRepository boothRepository;
     private final UserRepository userRepository;
-    private final MissionService missionService;
+    private final ApplicationEventPublisher eventPublisher;
+    // boothId → 기본 크기 첫 페이지 (댓글 등록이 커밋되면 제거)
+    private final ExpiringCache<String, CommentPageResponse> firstPages;
+    private final long firstPageTtlMs;
+
+    public CommentService(CommentRepository commentRepository,
+                          BoothRepository boothRepository,
+                          UserRepository userRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${comment.first-page-cache.max-size}") int firstPageCacheMaxSize,
+                          @Value("${comment.first-page-cache.ttl-ms}") long firstPageTtlMs) {
+        this.commentRepository = commentRepository;
+        this.boothRepository = boothRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.firstPages = new ExpiringCache<>(firstPageCacheMaxSize);
+        this.firstPageTtlMs = firstPageTtlMs;
+    }
 
+    /**
+     * 부스 댓글을 최신순으로 (createdAt, commentId) 커서 기준 한 페이지씩 조회한다.
+     * 작성자 이름은 같은 쿼리에서 가져오며, 가장 많이 요청되는 기본 크기 첫 페이지는 캐시한다.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(String boothId) {
-        return commentRepository.findByBoothBoothIdOrderByCreatedAtDesc(boothId)
-                .stream().map(CommentResponse::of).toList();
+    public CommentPageResponse getComments(String boothId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean cacheable = cursor == null && pageSize == DEFAULT_PAGE_SIZE;
+        if (cacheable) {
+            CommentPageResponse cached = firstPages.get(boothId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+        Limit limit = Limit.of(pageSize + 1);
+        List<CommentResponse> rows;
+        if (cursor == null) {
+            rows = commentRepository.findPage(boothId, limit);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor);
+            rows = commentRepository.findPageBefore(boothId, after.createdAt(), after.commentId(), limit);
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentResponse> comments = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = comments.get(comments.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getCommentId()).encode();
+        }
+        Long totalCount = cursor == null ? commentRepository.countByBoothBoothId(boothId) : null;
+
+        CommentPageResponse page = new CommentPageResponse(List.copyOf(comments), nextCursor, totalCount);
+        if (cacheable) {
+            firstPages.put(boothId, page, System.currentTimeMillis() + firstPageTtlMs);
+        }
+        return page;
     }
 
     @Transactional
@@ -50,9 +110,11 @@ public class CommentService {
                 .expectedEffect(request.getExpectedEffect())
                 .build();
         commentRepository.save(comment);
+        // 등록 전 내용으로 다시 채워지는 경우는 TTL이 지나면 정리된다
+        TransactionCallbacks.afterCommit(() -> firstPages.remove(boothId));
 
-        // 미션1 진행도 업데이트
-        missionService.onCommentAdded(employeeId);
+        // 미션1 진행도는 커밋 후 이벤트로 갱신
+        eventPublisher.publishEvent(new CommentAddedEvent(employeeId, boothId));
 
         return CommentResponse.of(comment);
     }
@@ -0,0 +1,11 @@
+package com.nextlevel.domain.comment.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 한 페이지 (최신순).
+ *
+ * @param nextCursor 다음 페이지 요청에 넘길 커서, 마지막 페이지면 null
+ * @param totalCount 부스의 전체 댓글 수, 첫 페이지에만 채운다
+ */
+public record CommentPageResponse(List<CommentResponse> comments, String nextCursor, Long totalCount) {}
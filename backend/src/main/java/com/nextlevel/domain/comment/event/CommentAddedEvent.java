@@ -0,0 +1,6 @@
+package com.nextlevel.domain.comment.event;
+
+/**
+ * 부스 개선 제안(댓글)이 등록됨.
+ */
+public record CommentAddedEvent(String employeeId, String boothId) {}
@@ -0,0 +1,114 @@
+package com.nextlevel.domain.evaluation;
+
+import com.nextlevel.domain.evaluation.dto.BoothVotes;
+import com.nextlevel.domain.evaluation.dto.RankingCheckResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 1등 부스 랭킹 엔진.
+ * 사용자별 최고 평가(총점이 가장 높고, 같으면 가장 최근 평가)와 부스별 득표 수를 메모리에 유지하고,
+ * 득표 순으로 정렬된 TreeSet을 평가 커밋 시 O(log n)으로 갱신한다.
+ * 집계 기준은 EvaluationRepository.findBoothRanking과 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoothRankingEngine {
+
+    private static final Comparator<BoothVotes> RANKING_ORDER = Comparator
+            .comparingInt(BoothVotes::voteCount).reversed()
+            .thenComparing(BoothVotes::boothId);
+
+    private final EvaluationRepository evaluationRepository;
+
+    private final Map<String, Ballot> bestByUser = new HashMap<>();
+    private final Map<String, Integer> votesByBooth = new HashMap<>();
+    private final TreeSet<BoothVotes> ranking = new TreeSet<>(RANKING_ORDER);
+
+    // 전체 평가로 다시 계산한다 (시작 시, 관리자 요청 시)
+    @PostConstruct
+    public synchronized void rebuild() {
+        bestByUser.clear();
+        votesByBooth.clear();
+        ranking.clear();
+        List<Object[]> ballots = evaluationRepository.findAllBallots();
+        ballots.forEach(row -> apply((String) row[1],
+                new Ballot((Long) row[0], (String) row[2], ((Number) row[3]).intValue())));
+        log.info("부스 랭킹 재계산 완료: 평가 {}건, 투표자 {}명", ballots.size(), bestByUser.size());
+    }
+
+    public synchronized void record(String employeeId, long evalId, String boothId, int totalScore) {
+        apply(employeeId, new Ballot(evalId, boothId, totalScore));
+    }
+
+    public synchronized List<BoothVotes> top(int limit) {
+        return ranking.stream().limit(limit).toList();
+    }
+
+    /**
+     * SQL 집계 결과와 비교한다. 평가가 커밋되는 중에는 일시적으로 다를 수 있다.
+     */
+    public RankingCheckResponse verify() {
+        Map<String, Integer> expected = new HashMap<>();
+        evaluationRepository.findBoothRanking()
+                .forEach(row -> expected.put((String) row[0], ((Number) row[1]).intValue()));
+
+        Map<String, Integer> actual;
+        synchronized (this) {
+            actual = new HashMap<>(votesByBooth);
+        }
+
+        Set<String> boothIds = new HashSet<>(expected.keySet());
+        boothIds.addAll(actual.keySet());
+        List<String> mismatched = boothIds.stream()
+                .filter(boothId -> !Objects.equals(expected.get(boothId), actual.get(boothId)))
+                .sorted()
+                .toList();
+        return new RankingCheckResponse(mismatched.isEmpty(), mismatched);
+    }
+
+    private void apply(String employeeId, Ballot ballot) {
+        Ballot current = bestByUser.get(employeeId);
+        if (current != null && !ballot.beats(current)) return;
+
+        bestByUser.put(employeeId, ballot);
+        if (current != null) {
+            adjustVotes(current.boothId(), -1);
+        }
+        adjustVotes(ballot.boothId(), 1);
+    }
+
+    private void adjustVotes(String boothId, int delta) {
+        int before = votesByBooth.getOrDefault(boothId, 0);
+        int after = before + delta;
+        if (before > 0) {
+            ranking.remove(new BoothVotes(boothId, before));
+        }
+        if (after > 0) {
+            ranking.add(new BoothVotes(boothId, after));
+            votesByBooth.put(boothId, after);
+        } else {
+            votesByBooth.remove(boothId);
+        }
+    }
+
+    private record Ballot(long evalId, String boothId, int totalScore) {
+
+        boolean beats(Ballot other) {
+            return totalScore > other.totalScore
+                    || (totalScore == other.totalScore && evalId > other.evalId);
+        }
+    }
+}
@@ -12,6 +12,10 @@ public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
 
     Optional<Evaluation> findByBoothBoothIdAndUserEmployeeId(String boothId, String employeeId);
 
+    // 랭킹 엔진 적재용 (evalId, employeeId, boothId, totalScore)
+    @Query("SELECT e.evalId, e.user.employeeId, e.booth.boothId, e.totalScore FROM Evaluation e")
+    List<Object[]> findAllBallots();
+
     // 1등 부스 선정: 각 유저의 최고 평가 부스를 집계
     @Query("""
         SELECT e.booth.boothId, COUNT(e) as voteCount
@@ -1,17 +1,20 @@
 package com.nextlevel.domain.evaluation;
 
+import com.nextlevel.common.TransactionCallbacks;
 import com.nextlevel.domain.booth.Booth;
 import com.nextlevel.domain.booth.BoothRepository;
 import com.nextlevel.domain.evaluation.dto.EvaluationRequest;
 import com.nextlevel.domain.evaluation.dto.ReviewRequest;
 import com.nextlevel.domain.evaluation.dto.ReviewResponse;
-import com.nextlevel.domain.mission.MissionService;
+import com.nextlevel.domain.evaluation.event.EvaluationSubmittedEvent;
+import com.nextlevel.domain.evaluation.event.ReviewAddedEvent;
 import com.nextlevel.domain.user.User;
 import com.nextlevel.domain.user.UserRepository;
-import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.VisitedBoothIndex;
 import com.nextlevel.exception.BusinessException;
 import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,13 +29,14 @@ public class EvaluationService {
     private final ReviewRepository reviewRepository;
     private final BoothRepository boothRepository;
     private final UserRepository userRepository;
-    private final BoothVisitRepository boothVisitRepository;
-    private final MissionService missionService;
+    private final VisitedBoothIndex visitedBoothIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoothRankingEngine boothRankingEngine;
 
     @Transactional
     public void submitEvaluation(String boothId, String employeeId, EvaluationRequest request) {
         // 방문 확인
-        if (!boothVisitRepository.existsByBoothBoothIdAndUserEmployeeId(boothId, employeeId)) {
+        if (!visitedBoothIndex.hasVisited(employeeId, boothId)) {
             throw new BusinessException("부스를 먼저 방문해야 합니다.", HttpStatus.FORBIDDEN, "VISIT_REQUIRED");
         }
         // 중복 평가 확인
@@ -60,6 +64,11 @@ public class EvaluationService {
                 .totalScore(total)
                 .build();
         evaluationRepository.save(evaluation);
+
+        // 1등 부스 랭킹 갱신
+        TransactionCallbacks.afterCommit(() ->
+                boothRankingEngine.record(employeeId, evaluation.getEvalId(), boothId, total));
+        eventPublisher.publishEvent(new EvaluationSubmittedEvent(employeeId, boothId));
     }
 
     @Transactional
@@ -76,15 +85,14 @@ public class EvaluationService {
                 .build();
         reviewRepository.save(review);
 
-        int reviewCount = reviewRepository.countByUserEmployeeId(employeeId);
-        missionService.onReviewAdded(employeeId, reviewCount);
+        // 미션5는 커밋 후 이벤트로 갱신
+        eventPublisher.publishEvent(new ReviewAddedEvent(employeeId, boothId));
 
         return ReviewResponse.of(review);
     }
 
     @Transactional(readOnly = true)
     public List<ReviewResponse> getMyReviews(String employeeId) {
-        return reviewRepository.findByUserEmployeeIdOrderByCreatedAtDesc(employeeId)
-                .stream().map(ReviewResponse::of).toList();
+        return reviewRepository.findResponsesByEmployeeId(employeeId);
     }
 }
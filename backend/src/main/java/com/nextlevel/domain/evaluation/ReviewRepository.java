@@ -1,14 +1,29 @@
 package com.nextlevel.domain.evaluation;
 
+import com.nextlevel.domain.evaluation.dto.ReviewResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    List<Review> findByUserEmployeeIdOrderByCreatedAtDesc(String employeeId);
+    // 내 리뷰 (부스명까지 한 번에 조회, 최신순)
+    @Query("""
+        SELECT new com.nextlevel.domain.evaluation.dto.ReviewResponse(
+            r.reviewId, b.boothId, b.name, r.content, r.createdAt)
+        FROM Review r JOIN r.booth b
+        WHERE r.user.employeeId = :employeeId
+        ORDER BY r.createdAt DESC, r.reviewId DESC
+        """)
+    List<ReviewResponse> findResponsesByEmployeeId(@Param("employeeId") String employeeId);
 
     List<Review> findByBoothBoothIdOrderByCreatedAtDesc(String boothId);
 
     int countByUserEmployeeId(String employeeId);
+
+    // 미션 재계산용 (employeeId, 리뷰 수)
+    @Query("SELECT r.user.employeeId, COUNT(r) FROM Review r GROUP BY r.user.employeeId")
+    List<Object[]> countGroupByUser();
 }
@@ -0,0 +1,3 @@
+package com.nextlevel.domain.evaluation.dto;
+
+public record BoothVotes(String boothId, int voteCount) {}
@@ -0,0 +1,11 @@
+package com.nextlevel.domain.evaluation.dto;
+
+import java.util.List;
+
+/**
+ * 인메모리 랭킹과 SQL 집계(findBoothRanking)의 비교 결과.
+ *
+ * @param consistent         모든 부스의 득표 수가 일치하면 true
+ * @param mismatchedBoothIds 득표 수가 다른 부스 ID
+ */
+public record RankingCheckResponse(boolean consistent, List<String> mismatchedBoothIds) {}
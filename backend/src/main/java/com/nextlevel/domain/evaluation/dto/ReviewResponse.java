@@ -1,6 +1,7 @@
 package com.nextlevel.domain.evaluation.dto;
 
 import com.nextlevel.domain.evaluation.Review;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션용
 public class ReviewResponse {
 
     private Long reviewId;
@@ -0,0 +1,6 @@
+package com.nextlevel.domain.evaluation.event;
+
+/**
+ * 부스 평가가 등록됨.
+ */
+public record EvaluationSubmittedEvent(String employeeId, String boothId) {}
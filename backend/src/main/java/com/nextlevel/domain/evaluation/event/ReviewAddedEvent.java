@@ -0,0 +1,6 @@
+package com.nextlevel.domain.evaluation.event;
+
+/**
+ * 부스 리뷰가 등록됨.
+ */
+public record ReviewAddedEvent(String employeeId, String boothId) {}
@@ -0,0 +1,82 @@
+package com.nextlevel.domain.gacha;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치 기반 O(1) 표본 추출기 (Vose alias method).
+ * 생성 시 O(n)으로 확률/별칭 테이블을 만들고, 추출은 난수 두 개로 끝난다. 생성 후에는 불변이다.
+ */
+final class AliasSampler {
+
+    static final AliasSampler EMPTY = new AliasSampler(List.of(), new double[0]);
+
+    private final String[] ids;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param ids     항목 ID
+     * @param weights 항목별 가중치 (0 이하인 항목은 제외)
+     */
+    AliasSampler(List<String> ids, double[] weights) {
+        List<String> positiveIds = new ArrayList<>();
+        List<Double> positiveWeights = new ArrayList<>();
+        double sum = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (weights[i] > 0) {
+                positiveIds.add(ids.get(i));
+                positiveWeights.add(weights[i]);
+                sum += weights[i];
+            }
+        }
+
+        int n = positiveIds.size();
+        this.ids = positiveIds.toArray(String[]::new);
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = positiveWeights.get(i) * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 부동소수점 오차로 남은 항목은 확률 1로 채운다
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1.0;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1.0;
+        }
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    String sample(RandomGenerator random) {
+        int column = random.nextInt(ids.length);
+        return random.nextDouble() < probability[column] ? ids[column] : ids[alias[column]];
+    }
+}
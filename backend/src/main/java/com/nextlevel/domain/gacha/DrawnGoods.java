@@ -0,0 +1,11 @@
+package com.nextlevel.domain.gacha;
+
+/**
+ * 가챠 추첨 결과로 응답에 필요한 굿즈 정보. 추첨 시 DB를 조회하지 않도록 메모리에 보관한다.
+ */
+public record DrawnGoods(String goodsId, String name, String imageUrl) {
+
+    static DrawnGoods of(Goods goods) {
+        return new DrawnGoods(goods.getGoodsId(), goods.getName(), goods.getImageUrl());
+    }
+}
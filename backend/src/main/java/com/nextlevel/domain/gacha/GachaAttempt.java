@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gacha_attempts")
+// 동시 요청(더블 탭)이 같은 회차를 두 번 기록하지 못하도록 막는다
+@Table(name = "gacha_attempts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "attempt_number"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,12 +1,24 @@
 package com.nextlevel.domain.gacha;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface GachaAttemptRepository extends JpaRepository<GachaAttempt, Long> {
 
-    List<GachaAttempt> findByUserEmployeeIdOrderByCreatedAtDesc(String employeeId);
+    // 굿즈를 함께 읽어 응답 변환 시 지연 로딩이 없도록 한다
+    @Query("""
+        SELECT a FROM GachaAttempt a JOIN FETCH a.goods
+        WHERE a.user.employeeId = :employeeId
+        ORDER BY a.createdAt DESC, a.attemptId DESC
+        """)
+    List<GachaAttempt> findWithGoodsByEmployeeId(@Param("employeeId") String employeeId);
 
     int countByUserEmployeeId(String employeeId);
+
+    // 미션 재계산용 (employeeId, 도전 횟수)
+    @Query("SELECT a.user.employeeId, COUNT(a) FROM GachaAttempt a GROUP BY a.user.employeeId")
+    List<Object[]> countGroupByUser();
 }
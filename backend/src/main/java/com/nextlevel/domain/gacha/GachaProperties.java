@@ -0,0 +1,28 @@
+package com.nextlevel.domain.gacha;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 가챠 설정.
+ *
+ * @param odds          굿즈별 당첨 가중치 (goodsId → 가중치). 비어 있으면 남은 재고 비율로 추첨한다.
+ *                      설정된 경우 목록에 없는 굿즈는 가중치 1로 본다.
+ * @param stockStrategy 재고 차감 방식. 기본은 인메모리 할당기(MEMORY)
+ */
+@ConfigurationProperties(prefix = "gacha")
+public record GachaProperties(Map<String, Double> odds, StockStrategy stockStrategy) {
+
+    public GachaProperties {
+        odds = odds == null ? Map.of() : Map.copyOf(odds);
+        stockStrategy = stockStrategy == null ? StockStrategy.MEMORY : stockStrategy;
+    }
+
+    public enum StockStrategy {
+        /** 메모리에서 CAS로 예약하고 DB에는 주기적으로 일괄 반영 */
+        MEMORY,
+        /** 추첨 트랜잭션 안에서 조건부 UPDATE로 바로 차감 (여러 서버가 같은 DB를 쓸 때) */
+        DATABASE
+    }
+}
@@ -1,18 +1,19 @@
 package com.nextlevel.domain.gacha;
 
 import com.nextlevel.domain.gacha.dto.GachaResultResponse;
-import com.nextlevel.domain.mission.MissionService;
-import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.gacha.event.GachaAttemptedEvent;
+import com.nextlevel.domain.point.PointLedgerEntry;
+import com.nextlevel.domain.point.PointLedgerService;
 import com.nextlevel.domain.user.UserRepository;
 import com.nextlevel.exception.BusinessException;
-import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
@@ -23,59 +24,55 @@ public class GachaService {
 
     private final GachaAttemptRepository gachaAttemptRepository;
     private final GoodsRepository goodsRepository;
+    private final GoodsDrawEngine goodsDrawEngine;
     private final UserRepository userRepository;
-    private final MissionService missionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointLedgerService pointLedgerService;
 
     @Transactional
     public GachaResultResponse attempt(String employeeId) {
-        User user = userRepository.findById(employeeId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
-
         int attemptCount = gachaAttemptRepository.countByUserEmployeeId(employeeId);
         if (attemptCount >= MAX_ATTEMPTS) {
             throw new BusinessException("가챠는 최대 2회까지만 도전할 수 있습니다.", HttpStatus.BAD_REQUEST, "GACHA_MAX_REACHED");
         }
 
-        if (user.getTotalPoints() < GACHA_COST) {
+        // 포인트 차감 (원장 기록, 잔액 확인과 차감이 한 번의 CAS라 동시 요청에서도 음수가 되지 않음)
+        int remainingPoints;
+        try {
+            remainingPoints = pointLedgerService.debit(employeeId, GACHA_COST, PointLedgerEntry.Reason.GACHA);
+        } catch (BusinessException e) {
+            if (!"POINT_INSUFFICIENT".equals(e.getErrorCode())) throw e;
             throw new BusinessException("포인트가 부족합니다. (필요: " + GACHA_COST + "p)", HttpStatus.BAD_REQUEST, "POINT_INSUFFICIENT");
         }
 
-        // 재고 있는 굿즈 중 랜덤 선택 (비관적 락)
-        List<Goods> availableGoods = goodsRepository.findByRemainingStockGreaterThan(0);
-        if (availableGoods.isEmpty()) {
-            throw new BusinessException("모든 굿즈 재고가 소진되었습니다.", HttpStatus.CONFLICT, "GOODS_OUT_OF_STOCK");
-        }
-
-        Goods selectedGoods = availableGoods.get(new Random().nextInt(availableGoods.size()));
-        // 락을 걸고 재고 차감
-        Goods lockedGoods = goodsRepository.findByIdWithLock(selectedGoods.getGoodsId())
-                .orElseThrow(() -> new EntityNotFoundException("굿즈를 찾을 수 없습니다."));
-        lockedGoods.decreaseStock();
-
-        // 포인트 차감
-        user.deductPoints(GACHA_COST);
-        userRepository.save(user);
+        // 재고 가중 추첨 후 메모리에서 재고 예약 (DB 반영은 커밋 후 일괄 처리)
+        DrawnGoods drawnGoods = goodsDrawEngine.drawAndReserve()
+                .orElseThrow(() -> new BusinessException("모든 굿즈 재고가 소진되었습니다.", HttpStatus.CONFLICT, "GOODS_OUT_OF_STOCK"));
 
         int newAttemptNumber = attemptCount + 1;
         GachaAttempt gachaAttempt = GachaAttempt.builder()
-                .user(user)
-                .goods(lockedGoods)
+                .user(userRepository.getReferenceById(employeeId))
+                .goods(goodsRepository.getReferenceById(drawnGoods.goodsId()))
                 .pointsSpent(GACHA_COST)
                 .attemptNumber(newAttemptNumber)
                 .build();
-        gachaAttemptRepository.save(gachaAttempt);
+        try {
+            gachaAttemptRepository.saveAndFlush(gachaAttempt);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회차를 먼저 기록한 요청이 있음 → 롤백되며 포인트·재고 예약도 되돌아간다
+            throw new BusinessException("이미 처리 중인 가챠 요청이 있습니다.", HttpStatus.CONFLICT, "GACHA_CONCURRENT_ATTEMPT");
+        }
 
-        // 미션4 업데이트
-        missionService.onGachaAttempted(employeeId, newAttemptNumber);
+        // 미션4는 커밋 후 이벤트로 갱신
+        eventPublisher.publishEvent(new GachaAttemptedEvent(employeeId, newAttemptNumber));
 
-        return GachaResultResponse.of(gachaAttempt, user.getTotalPoints());
+        return GachaResultResponse.of(gachaAttempt, drawnGoods, remainingPoints);
     }
 
     @Transactional(readOnly = true)
     public List<GachaResultResponse> getHistory(String employeeId) {
-        User user = userRepository.findById(employeeId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
-        return gachaAttemptRepository.findByUserEmployeeIdOrderByCreatedAtDesc(employeeId)
-                .stream().map(a -> GachaResultResponse.of(a, user.getTotalPoints())).toList();
+        int remainingPoints = pointLedgerService.getBalance(employeeId);
+        return gachaAttemptRepository.findWithGoodsByEmployeeId(employeeId)
+                .stream().map(a -> GachaResultResponse.of(a, remainingPoints)).toList();
     }
 }
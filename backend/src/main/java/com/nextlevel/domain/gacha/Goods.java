@@ -33,11 +33,4 @@ public class Goods {
     public boolean hasStock() {
         return this.remainingStock > 0;
     }
-
-    public void decreaseStock() {
-        if (this.remainingStock <= 0) {
-            throw new IllegalStateException("굿즈 재고가 없습니다.");
-        }
-        this.remainingStock--;
-    }
 }
@@ -0,0 +1,133 @@
+package com.nextlevel.domain.gacha;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가챠 추첨 엔진.
+ * 남은 재고(또는 설정된 당첨 가중치)로 만든 alias 테이블에서 O(1)로 추첨하고 재고는 할당기로 예약한다.
+ * 테이블은 재고 버전이 바뀌었을 때만 다시 계산하며, 가중치가 그대로면 기존 테이블을 재사용한다.
+ * 추첨 과정에서는 DB를 조회하지 않는다.
+ * stock-strategy가 DATABASE이면 DB 재고로 추첨하고 조건부 UPDATE로 차감한다.
+ */
+@Slf4j
+@Component
+@DependsOn("dataInitializer")
+@RequiredArgsConstructor
+public class GoodsDrawEngine {
+
+    private final GoodsRepository goodsRepository;
+    private final GoodsStockAllocator goodsStockAllocator;
+    private final GachaProperties gachaProperties;
+
+    private final Map<String, DrawnGoods> catalog = new ConcurrentHashMap<>();
+    private final AtomicReference<DrawTable> table = new AtomicReference<>(DrawTable.EMPTY);
+
+    // 재고 할당기와 같이 웹 서버가 요청을 받기 전에 적재한다
+    @PostConstruct
+    void loadCatalog() {
+        goodsRepository.findAll().forEach(goods -> catalog.put(goods.getGoodsId(), DrawnGoods.of(goods)));
+        log.info("가챠 추첨 대상 로드 완료: {}종 ({})", catalog.size(),
+                gachaProperties.odds().isEmpty() ? "재고 비율" : "설정 가중치");
+    }
+
+    /**
+     * 굿즈 하나를 추첨하고 재고를 예약한다.
+     * 동시 요청으로 예약에 실패하면 갱신된 테이블로 다시 추첨한다.
+     *
+     * @return 모든 굿즈가 품절이면 empty
+     */
+    public Optional<DrawnGoods> drawAndReserve() {
+        if (gachaProperties.stockStrategy() == GachaProperties.StockStrategy.DATABASE) {
+            return drawFromDatabase();
+        }
+        while (true) {
+            AliasSampler sampler = currentTable().sampler();
+            if (sampler.isEmpty()) {
+                return Optional.empty();
+            }
+            String goodsId = sampler.sample(ThreadLocalRandom.current());
+            if (goodsStockAllocator.reserve(goodsId)) {
+                return Optional.of(catalog.get(goodsId));
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 재고가 남은 굿즈를 추첨하고 조건부 UPDATE로 1개 차감한다.
+     * 행 잠금 조회 없이 차감하며, 추첨과 차감 사이에 품절되면 그 굿즈를 빼고 남은 후보로 다시 추첨한다.
+     * 트랜잭션이 롤백되면 차감도 함께 되돌아간다.
+     */
+    private Optional<DrawnGoods> drawFromDatabase() {
+        List<String> ids = new ArrayList<>();
+        List<Double> candidateWeights = new ArrayList<>();
+        for (Object[] row : goodsRepository.findInStock()) {
+            String goodsId = (String) row[0];
+            if (!catalog.containsKey(goodsId)) continue;
+            ids.add(goodsId);
+            candidateWeights.add(weightOf(goodsId, ((Number) row[1]).intValue()));
+        }
+        double[] weights = candidateWeights.stream().mapToDouble(Double::doubleValue).toArray();
+
+        AliasSampler sampler = new AliasSampler(ids, weights);
+        while (!sampler.isEmpty()) {
+            String goodsId = sampler.sample(ThreadLocalRandom.current());
+            if (goodsRepository.decrementIfInStock(goodsId) == 1) {
+                return Optional.of(catalog.get(goodsId));
+            }
+            // 후보가 몇 개 안 되므로 품절된 굿즈만 빼고 테이블을 다시 만든다
+            weights[ids.indexOf(goodsId)] = 0;
+            sampler = new AliasSampler(ids, weights);
+        }
+        return Optional.empty();
+    }
+
+    private DrawTable currentTable() {
+        DrawTable current = table.get();
+        long version = goodsStockAllocator.version();
+        if (current.version() == version) {
+            return current;
+        }
+
+        // 버전을 먼저 읽고 재고를 읽으므로, 그 사이 변경이 있으면 다음 추첨에서 다시 계산된다
+        List<String> ids = new ArrayList<>(catalog.keySet());
+        double[] weights = new double[ids.size()];
+        Map<String, Integer> stock = goodsStockAllocator.stockSnapshot();
+        for (int i = 0; i < ids.size(); i++) {
+            weights[i] = weightOf(ids.get(i), stock.getOrDefault(ids.get(i), 0));
+        }
+
+        DrawTable rebuilt = current.hasSameWeights(ids, weights)
+                ? new DrawTable(version, current.ids(), current.weights(), current.sampler())
+                : new DrawTable(version, ids, weights, new AliasSampler(ids, weights));
+        table.compareAndSet(current, rebuilt);
+        return rebuilt;
+    }
+
+    private double weightOf(String goodsId, int remaining) {
+        if (remaining <= 0) return 0;
+        Map<String, Double> odds = gachaProperties.odds();
+        return odds.isEmpty() ? remaining : odds.getOrDefault(goodsId, 1.0);
+    }
+
+    private record DrawTable(long version, List<String> ids, double[] weights, AliasSampler sampler) {
+
+        static final DrawTable EMPTY = new DrawTable(-1, List.of(), new double[0], AliasSampler.EMPTY);
+
+        boolean hasSameWeights(List<String> otherIds, double[] otherWeights) {
+            return ids.equals(otherIds) && Arrays.equals(weights, otherWeights);
+        }
+    }
+}
@@ -1,18 +1,33 @@
 package com.nextlevel.domain.gacha;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface GoodsRepository extends JpaRepository<Goods, String> {
 
-    List<Goods> findByRemainingStockGreaterThan(int stock);
+    @Modifying
+    @Query("UPDATE Goods g SET g.remainingStock = g.remainingStock - :quantity WHERE g.goodsId = :goodsId")
+    int decreaseStock(@Param("goodsId") String goodsId, @Param("quantity") int quantity);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT g FROM Goods g WHERE g.goodsId = :goodsId")
-    Optional<Goods> findByIdWithLock(String goodsId);
+    // 재고가 남아 있을 때만 1개 차감한다. 영향받은 행이 0이면 그 사이 품절된 것
+    @Modifying
+    @Query("UPDATE Goods g SET g.remainingStock = g.remainingStock - 1 WHERE g.goodsId = :goodsId AND g.remainingStock > 0")
+    int decrementIfInStock(@Param("goodsId") String goodsId);
+
+    // DB 차감 방식의 추첨 후보 (goodsId, remainingStock)
+    @Query("SELECT g.goodsId, g.remainingStock FROM Goods g WHERE g.remainingStock > 0 ORDER BY g.goodsId")
+    List<Object[]> findInStock();
+
+    // 가챠 기록을 기준으로 남은 재고를 재계산 (반영되지 못한 차감분 복구)
+    @Modifying
+    @Query(value = """
+        UPDATE goods g
+        SET remaining_stock = GREATEST(g.total_stock
+                - (SELECT COUNT(*) FROM gacha_attempts a WHERE a.goods_id = g.goods_id), 0)
+        """, nativeQuery = true)
+    int reconcileRemainingStock();
 }
@@ -0,0 +1,132 @@
+package com.nextlevel.domain.gacha;
+
+import com.nextlevel.common.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 굿즈 재고 인메모리 할당기.
+ * 남은 재고를 굿즈별 AtomicInteger로 보관하고 CAS로 예약해 행 락 없이 재고를 차감한다.
+ * 커밋된 차감분은 모아 두었다가 주기적으로 goods 테이블에 일괄 반영하고,
+ * 시작 시에는 gacha_attempts 기준으로 재고를 재계산해 반영되지 못한 차감분을 복구한다.
+ */
+@Slf4j
+@Component
+@DependsOn("dataInitializer")
+@RequiredArgsConstructor
+public class GoodsStockAllocator {
+
+    private final GoodsRepository goodsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, AtomicInteger> remainingStock = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pendingDecrements = new ConcurrentHashMap<>();
+    // 재고가 바뀔 때마다 증가 (추첨 테이블 재계산 여부 판단용)
+    private final AtomicLong version = new AtomicLong();
+
+    // 시드 데이터가 들어간 뒤, 웹 서버가 요청을 받기 전에 재고를 맞추고 메모리에 적재한다
+    // 적재 전에 들어온 추첨이 빈 재고를 보고 품절로 응답하지 않게 한다
+    @PostConstruct
+    void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            goodsRepository.reconcileRemainingStock();
+            goodsRepository.findAll().forEach(goods ->
+                    remainingStock.put(goods.getGoodsId(), new AtomicInteger(goods.getRemainingStock())));
+        });
+        version.incrementAndGet();
+        log.info("굿즈 재고 재계산 완료: {}종", remainingStock.size());
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public Map<String, Integer> stockSnapshot() {
+        Map<String, Integer> snapshot = new HashMap<>();
+        remainingStock.forEach((goodsId, stock) -> snapshot.put(goodsId, stock.get()));
+        return snapshot;
+    }
+
+    /**
+     * 재고 1개를 예약한다. 재고는 0 아래로 내려가지 않는다.
+     * 현재 트랜잭션이 커밋되면 DB 반영 대기열에 올리고, 롤백되면 예약을 되돌린다.
+     *
+     * @return 예약 성공 여부 (품절이면 false)
+     */
+    public boolean reserve(String goodsId) {
+        AtomicInteger stock = remainingStock.get(goodsId);
+        if (stock == null) return false;
+
+        int current;
+        do {
+            current = stock.get();
+            if (current <= 0) return false;
+        } while (!stock.compareAndSet(current, current - 1));
+        version.incrementAndGet();
+
+        afterCompletion(goodsId, stock);
+        return true;
+    }
+
+    private void afterCompletion(String goodsId, AtomicInteger stock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addPending(goodsId, 1);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    addPending(goodsId, 1);
+                } else {
+                    stock.incrementAndGet();
+                    version.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void addPending(String goodsId, int quantity) {
+        pendingDecrements.computeIfAbsent(goodsId, id -> new AtomicInteger()).addAndGet(quantity);
+    }
+
+    // 커밋된 차감분을 굿즈별 UPDATE 한 번으로 반영한다
+    // 중간 UPDATE가 실패해 롤백되면 앞서 비운 차감분까지 모두 되돌린다
+    @Scheduled(fixedDelayString = "${gacha.stock-flush-interval-ms}")
+    @Transactional
+    public void flush() {
+        Map<AtomicInteger, Integer> drained = new HashMap<>();
+        TransactionCallbacks.afterRollback(() -> drained.forEach(AtomicInteger::addAndGet));
+        pendingDecrements.forEach((goodsId, pending) -> {
+            int quantity = pending.getAndSet(0);
+            if (quantity == 0) return;
+            drained.put(pending, quantity);
+            goodsRepository.decreaseStock(goodsId, quantity);
+        });
+    }
+
+    // 자기 호출은 @Transactional 프록시를 거치지 않으므로 트랜잭션을 직접 연다
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush());
+        } catch (RuntimeException e) {
+            log.warn("종료 시 굿즈 재고 반영 실패 (다음 시작 시 재계산): {}", e.getMessage());
+        }
+    }
+}
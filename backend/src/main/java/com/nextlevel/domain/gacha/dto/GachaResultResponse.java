@@ -1,5 +1,6 @@
 package com.nextlevel.domain.gacha.dto;
 
+import com.nextlevel.domain.gacha.DrawnGoods;
 import com.nextlevel.domain.gacha.GachaAttempt;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +28,17 @@ public class GachaResultResponse {
                 .remainingPoints(remainingPoints)
                 .build();
     }
+
+    // 추첨 직후에는 굿즈 프록시를 초기화하지 않고 추첨 결과의 굿즈 정보를 사용한다
+    public static GachaResultResponse of(GachaAttempt attempt, DrawnGoods goods, int remainingPoints) {
+        return GachaResultResponse.builder()
+                .attemptId(attempt.getAttemptId())
+                .attemptNumber(attempt.getAttemptNumber())
+                .goodsId(goods.goodsId())
+                .goodsName(goods.name())
+                .goodsImageUrl(goods.imageUrl())
+                .pointsSpent(attempt.getPointsSpent())
+                .remainingPoints(remainingPoints)
+                .build();
+    }
 }
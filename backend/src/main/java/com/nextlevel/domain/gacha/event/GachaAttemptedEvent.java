@@ -0,0 +1,6 @@
+package com.nextlevel.domain.gacha.event;
+
+/**
+ * 가챠 도전이 기록됨.
+ */
+public record GachaAttemptedEvent(String employeeId, int attemptNumber) {}
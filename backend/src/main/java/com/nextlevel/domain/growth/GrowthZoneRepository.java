@@ -1,7 +1,9 @@
 package com.nextlevel.domain.growth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GrowthZoneRepository extends JpaRepository<GrowthZoneEntry, Long> {
@@ -9,4 +11,8 @@ public interface GrowthZoneRepository extends JpaRepository<GrowthZoneEntry, Lon
     Optional<GrowthZoneEntry> findByUserEmployeeId(String employeeId);
 
     boolean existsByUserEmployeeId(String employeeId);
+
+    // 미션 재계산용 (employeeId, 완료 건수)
+    @Query("SELECT g.user.employeeId, COUNT(g) FROM GrowthZoneEntry g GROUP BY g.user.employeeId")
+    List<Object[]> countGroupByUser();
 }
@@ -1,12 +1,13 @@
 package com.nextlevel.domain.growth;
 
 import com.nextlevel.domain.growth.dto.GrowthZoneRequest;
-import com.nextlevel.domain.mission.MissionService;
+import com.nextlevel.domain.growth.event.GrowthCompletedEvent;
 import com.nextlevel.domain.user.User;
 import com.nextlevel.domain.user.UserRepository;
 import com.nextlevel.exception.BusinessException;
 import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +18,7 @@ public class GrowthZoneService {
 
     private final GrowthZoneRepository growthZoneRepository;
     private final UserRepository userRepository;
-    private final MissionService missionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void complete(String employeeId, GrowthZoneRequest request) {
@@ -36,8 +37,8 @@ public class GrowthZoneService {
                 .build();
         growthZoneRepository.save(entry);
 
-        // 미션2 완료
-        missionService.onGrowthZoneCompleted(employeeId);
+        // 미션2 완료는 커밋 후 이벤트로 반영
+        eventPublisher.publishEvent(new GrowthCompletedEvent(employeeId));
     }
 
     @Transactional(readOnly = true)
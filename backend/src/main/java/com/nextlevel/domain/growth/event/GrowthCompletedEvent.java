@@ -0,0 +1,6 @@
+package com.nextlevel.domain.growth.event;
+
+/**
+ * 성장존 체험이 완료됨.
+ */
+public record GrowthCompletedEvent(String employeeId) {}
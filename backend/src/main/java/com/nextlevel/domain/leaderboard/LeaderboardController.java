@@ -0,0 +1,32 @@
+package com.nextlevel.domain.leaderboard;
+
+import com.nextlevel.common.ApiResponse;
+import com.nextlevel.domain.leaderboard.dto.LeaderboardEntry;
+import com.nextlevel.domain.leaderboard.dto.MyRankResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LeaderboardEntry>>> getTop(@RequestParam(defaultValue = "10") int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(ApiResponse.success(leaderboardService.top(size)));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<MyRankResponse>> getMyRank(@AuthenticationPrincipal String employeeId) {
+        return ResponseEntity.ok(ApiResponse.success(leaderboardService.rankOf(employeeId)));
+    }
+}
@@ -0,0 +1,183 @@
+package com.nextlevel.domain.leaderboard;
+
+import com.nextlevel.domain.leaderboard.dto.LeaderboardEntry;
+import com.nextlevel.domain.leaderboard.dto.MyRankResponse;
+import com.nextlevel.domain.mission.event.MissionCompletedEvent;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.point.event.PointBalanceChangedEvent;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트·미션 실시간 리더보드.
+ * 순위표는 (포인트 desc, 달성 미션 desc, 사번 asc) 순 정렬 집합으로 유지해 상위 N명을 앞에서부터 읽고,
+ * 내 순위는 점수별 인원 수 펜윅 트리로 O(log n)에 센다. 포인트·미션이 바뀔 때마다 커밋 후 해당 사용자만 갱신한다.
+ * 포인트는 원장 잔액(users.total_points는 압축 시에만 맞춰짐), 미션 수는 users.missions_completed 기준이며
+ * 일반 사용자(USER)만 순위에 오른다.
+ */
+@Slf4j
+@Component
+@DependsOn("dataInitializer")
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final String LEADERBOARD_TOPIC = "/topic/leaderboard";
+
+    // 미션은 M1~M5 다섯 개
+    static final int MAX_MISSIONS = 5;
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingInt(Standing::totalPoints).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::missionsCompleted).reversed())
+            .thenComparing(Standing::employeeId);
+
+    private final UserRepository userRepository;
+    private final PointLedgerService pointLedgerService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${leaderboard.broadcast-size}")
+    private int broadcastSize;
+
+    // 순위표와 펜윅 트리는 rankCounter 락 안에서만 읽고 쓴다 (한 사용자의 자리 이동이 제거·추가 두 단계이므로)
+    private final NavigableSet<Standing> ranking = new TreeSet<>(ORDER);
+    private final Map<String, Standing> standings = new ConcurrentHashMap<>();
+    private final RankCounter rankCounter = new RankCounter(1024);
+    // 순위표가 바뀔 때마다 증가, 방송은 마지막으로 보낸 값과 다를 때만 한다
+    private final AtomicLong version = new AtomicLong();
+    private long broadcastVersion;
+
+    /**
+     * 시드 데이터가 들어간 뒤, 웹 서버가 요청을 받기 전에 일반 사용자 전체를 적재한다.
+     * 잔액은 원장 두 쿼리로 한 번에 캐시에 올린다.
+     */
+    @PostConstruct
+    void loadOnStartup() {
+        List<User> users = userRepository.findAll().stream()
+                .filter(user -> user.getRole() == User.Role.USER)
+                .toList();
+        pointLedgerService.loadAllBalances(users.stream().map(User::getEmployeeId).toList());
+        users.forEach(user -> merge(user.getEmployeeId(), user.getName(), user.getMissionsCompleted()));
+        log.info("리더보드 적재 완료: {}명", standings.size());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onPointBalanceChanged(PointBalanceChangedEvent event) {
+        event.employeeIds().stream().distinct().forEach(this::refreshPoints);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onMissionCompleted(MissionCompletedEvent event) {
+        userRepository.findById(event.employeeId())
+                .filter(user -> user.getRole() == User.Role.USER)
+                .ifPresent(user -> merge(user.getEmployeeId(), user.getName(), user.getMissionsCompleted()));
+    }
+
+    // 이미 순위표에 있으면 DB를 읽지 않고 잔액만 다시 반영한다
+    void refreshPoints(String employeeId) {
+        Standing current = standings.get(employeeId);
+        if (current != null) {
+            merge(employeeId, current.name(), current.missionsCompleted());
+            return;
+        }
+        userRepository.findById(employeeId)
+                .filter(user -> user.getRole() == User.Role.USER)
+                .ifPresent(user -> merge(user.getEmployeeId(), user.getName(), user.getMissionsCompleted()));
+    }
+
+    /**
+     * 한 사용자의 자리를 바꾼다. 잔액은 락 안에서 원장 캐시의 현재 값을 읽으므로 비동기 갱신 순서가
+     * 뒤바뀌어도 마지막 갱신이 최신 잔액을 반영한다. 미션 수는 줄지 않으므로 큰 값을 유지한다.
+     */
+    void merge(String employeeId, String name, int missionsCompleted) {
+        synchronized (rankCounter) {
+            Standing previous = standings.get(employeeId);
+            int missions = Math.min(MAX_MISSIONS,
+                    Math.max(missionsCompleted, previous == null ? 0 : previous.missionsCompleted()));
+            Standing next = new Standing(employeeId, name, pointLedgerService.getBalance(employeeId), missions);
+            if (next.equals(previous)) return;
+
+            if (previous != null) {
+                ranking.remove(previous);
+                rankCounter.add(previous.score(), -1);
+            }
+            ranking.add(next);
+            rankCounter.add(next.score(), 1);
+            standings.put(employeeId, next);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 상위 N명. 동점자는 같은 순위를 받고 다음 순위는 그만큼 건너뛴다 (1, 2, 2, 4).
+     */
+    public List<LeaderboardEntry> top(int limit) {
+        synchronized (rankCounter) {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.min(limit, standings.size()));
+            Standing previous = null;
+            int rank = 0;
+            for (Standing standing : ranking) {
+                if (entries.size() >= limit) break;
+                if (previous == null || previous.score() != standing.score()) {
+                    rank = entries.size() + 1;
+                }
+                entries.add(standing.toEntry(rank));
+                previous = standing;
+            }
+            return entries;
+        }
+    }
+
+    public MyRankResponse rankOf(String employeeId) {
+        synchronized (rankCounter) {
+            Standing standing = standings.get(employeeId);
+            long participants = rankCounter.total();
+            if (standing == null) {
+                return new MyRankResponse(null, participants, pointLedgerService.getBalance(employeeId), 0);
+            }
+            int rank = (int) rankCounter.countAbove(standing.score()) + 1;
+            return new MyRankResponse(rank, participants, standing.totalPoints(), standing.missionsCompleted());
+        }
+    }
+
+    // 바뀐 경우에만 상위 N명을 /topic/leaderboard 로 보낸다 (변경마다 보내지 않고 주기당 한 번)
+    @Scheduled(fixedDelayString = "${leaderboard.broadcast-interval-ms}")
+    public void broadcast() {
+        long current = version.get();
+        if (current == broadcastVersion) return;
+        broadcastVersion = current;
+        messagingTemplate.convertAndSend(LEADERBOARD_TOPIC, top(broadcastSize));
+    }
+
+    record Standing(String employeeId, String name, int totalPoints, int missionsCompleted) {
+
+        // 포인트가 같으면 미션 수로 가르는 단일 정수 키
+        int score() {
+            return totalPoints * (MAX_MISSIONS + 1) + missionsCompleted;
+        }
+
+        LeaderboardEntry toEntry(int rank) {
+            return new LeaderboardEntry(rank, employeeId, name, totalPoints, missionsCompleted);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.nextlevel.domain.leaderboard;
+
+/**
+ * 점수별 인원 수를 담는 펜윅 트리. 점수는 0 이상의 정수 키이며, 키보다 높은 점수의 인원을 O(log n)에 센다.
+ * 키 범위를 넘는 점수가 들어오면 두 배씩 늘린다. 스레드 안전하지 않으므로 호출자가 동기화한다.
+ */
+final class RankCounter {
+
+    private long[] tree;
+    private long total;
+
+    RankCounter(int initialCapacity) {
+        this.tree = new long[Math.max(initialCapacity, 1) + 1];
+    }
+
+    void add(int key, long delta) {
+        ensureCapacity(key);
+        total += delta;
+        for (int i = key + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // key보다 큰 점수를 가진 인원 수
+    long countAbove(int key) {
+        return total - countAtMost(key);
+    }
+
+    long total() {
+        return total;
+    }
+
+    private long countAtMost(int key) {
+        long sum = 0;
+        for (int i = Math.min(key + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 펜윅 트리는 길이를 바꾸면 구간이 달라지므로 원래 빈도로 되돌려 다시 쌓는다
+    private void ensureCapacity(int key) {
+        if (key + 1 < tree.length) return;
+
+        int size = tree.length - 1;
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            counts[i] = countAtMost(i) - (i == 0 ? 0 : countAtMost(i - 1));
+        }
+        int newSize = size;
+        while (key + 1 > newSize) {
+            newSize *= 2;
+        }
+        tree = new long[newSize + 1];
+        for (int i = 0; i < size; i++) {
+            if (counts[i] != 0) {
+                for (int j = i + 1; j < tree.length; j += j & -j) {
+                    tree[j] += counts[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.nextlevel.domain.leaderboard.dto;
+
+/**
+ * 리더보드 한 줄. 포인트·달성 미션 수가 같으면 같은 순위를 받는다.
+ */
+public record LeaderboardEntry(int rank, String employeeId, String name, int totalPoints, int missionsCompleted) {}
@@ -0,0 +1,8 @@
+package com.nextlevel.domain.leaderboard.dto;
+
+/**
+ * 내 순위. 아직 리더보드에 없는 사용자(관리자 등)는 rank가 null이다.
+ *
+ * @param participants 리더보드에 오른 전체 인원
+ */
+public record MyRankResponse(Integer rank, long participants, int totalPoints, int missionsCompleted) {}
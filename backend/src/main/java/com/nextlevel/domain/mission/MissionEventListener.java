@@ -0,0 +1,98 @@
+package com.nextlevel.domain.mission;
+
+import com.nextlevel.domain.booth.event.BoothVisitorMilestoneEvent;
+import com.nextlevel.domain.comment.event.CommentAddedEvent;
+import com.nextlevel.domain.evaluation.event.ReviewAddedEvent;
+import com.nextlevel.domain.gacha.event.GachaAttemptedEvent;
+import com.nextlevel.domain.growth.event.GrowthCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 도메인 이벤트로 미션 진행도를 갱신한다.
+ * 원 트랜잭션 커밋 후 비동기로 처리해 쓰기 요청이 미션 갱신을 기다리지 않는다.
+ * 공개·달성된 미션은 /user/queue/missions 로 알린다.
+ * 같은 사용자의 재계산은 락 스트라이프로 직렬화하고, 처리 중 실패하거나 서버가 내려가
+ * 유실된 이벤트는 다음 이벤트나 시작 시 전체 재계산에서 복구된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionEventListener {
+
+    public static final String MISSION_QUEUE = "/queue/missions";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final MissionService missionService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ReentrantLock[] locks = Stream.generate(ReentrantLock::new)
+            .limit(LOCK_STRIPES)
+            .toArray(ReentrantLock[]::new);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        int completed = missionService.reconcileAll();
+        log.info("미션 진행도 재계산 완료: 새로 달성 {}건", completed);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        reconcile(event.employeeId(), "M1");
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onGrowthCompleted(GrowthCompletedEvent event) {
+        reconcile(event.employeeId(), "M2");
+    }
+
+    // 방문 인원 미션은 부스 소유자의 미션, 방문자 카운터가 30/70명을 넘을 때만 재계산한다
+    @Async
+    @EventListener
+    public void onBoothVisitorMilestone(BoothVisitorMilestoneEvent event) {
+        int visitorCount = event.visitorCount();
+        if (event.boothOwnerEmployeeId() != null
+                && (visitorCount == MissionService.M3_UNLOCK_VISITORS || visitorCount == MissionService.M3_COMPLETE_VISITORS)) {
+            reconcile(event.boothOwnerEmployeeId(), "M3");
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onGachaAttempted(GachaAttemptedEvent event) {
+        reconcile(event.employeeId(), "M4");
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onReviewAdded(ReviewAddedEvent event) {
+        reconcile(event.employeeId(), "M5");
+    }
+
+    private void reconcile(String employeeId, String missionId) {
+        ReentrantLock lock = locks[Math.floorMod(employeeId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            // 공개·달성된 미션은 커밋 후 본인에게 알린다
+            missionService.reconcile(employeeId, missionId).ifPresent(mission ->
+                    messagingTemplate.convertAndSendToUser(employeeId, MISSION_QUEUE, mission));
+        } catch (RuntimeException e) {
+            log.warn("미션 진행도 갱신 실패 (다음 재계산에서 복구): employeeId={}, missionId={}",
+                    employeeId, missionId, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
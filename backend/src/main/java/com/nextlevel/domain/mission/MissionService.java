@@ -1,24 +1,47 @@
 package com.nextlevel.domain.mission;
 
+import com.nextlevel.domain.comment.CommentRepository;
+import com.nextlevel.domain.evaluation.ReviewRepository;
+import com.nextlevel.domain.gacha.GachaAttemptRepository;
+import com.nextlevel.domain.growth.GrowthZoneRepository;
 import com.nextlevel.domain.mission.dto.MissionResponse;
-import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.mission.event.MissionCompletedEvent;
 import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.BoothVisitRepository;
 import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 미션 진행 상태 관리.
+ * 진행도는 누적 증가가 아니라 원천 데이터(댓글, 성장존, 방문, 가챠, 리뷰 건수)로 다시 계산하므로
+ * 같은 이벤트가 여러 번 처리되거나 유실되어도 재계산 시 같은 상태로 수렴한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionService {
 
+    // 미션3: 내 부스 방문 인원 기준
+    public static final int M3_UNLOCK_VISITORS = 30;
+    public static final int M3_COMPLETE_VISITORS = 70;
+
     private final UserMissionRepository userMissionRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final GrowthZoneRepository growthZoneRepository;
+    private final BoothVisitRepository boothVisitRepository;
+    private final GachaAttemptRepository gachaAttemptRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<MissionResponse> getMissions(String employeeId) {
@@ -26,94 +49,106 @@ public class MissionService {
                 .stream().map(MissionResponse::of).toList();
     }
 
-    // 미션1: 내일 더 새롭게 - 댓글 1회
-    @Transactional
-    public void onCommentAdded(String employeeId) {
-        updateMissionProgress(employeeId, "M1");
-    }
-
-    // 미션2: 꿈을 원대하게 - 성장존 QR
-    @Transactional
-    public void onGrowthZoneCompleted(String employeeId) {
-        updateMissionProgress(employeeId, "M2");
-    }
-
-    // 미션3: 반드시 결과로 - 내 부스 방문 인원
+    /**
+     * 한 사용자의 미션 하나를 원천 데이터 기준으로 다시 계산한다.
+     *
+     * @return 이번 계산으로 공개 또는 달성 상태가 바뀌었으면 바뀐 미션
+     */
     @Transactional
-    public void onBoothVisitCountUpdated(String boothOwnerEmployeeId, int visitorCount) {
-        Optional<UserMission> missionOpt = userMissionRepository
-                .findByUserEmployeeIdAndMissionId(boothOwnerEmployeeId, "M3");
-        if (missionOpt.isEmpty()) return;
+    public Optional<MissionResponse> reconcile(String employeeId, String missionId) {
+        Optional<UserMission> missionOpt = userMissionRepository.findByUserEmployeeIdAndMissionId(employeeId, missionId);
+        if (missionOpt.isEmpty()) return Optional.empty();
 
         UserMission mission = missionOpt.get();
-        if (visitorCount >= 30 && !mission.isUnlocked()) {
-            mission.unlock();
-        }
-        if (visitorCount >= 70 && !mission.isCompleted()) {
-            mission.complete();
-            incrementUserMissionsCompleted(boothOwnerEmployeeId);
+        boolean wasUnlocked = mission.isUnlocked();
+        if (apply(mission, sourceCount(employeeId, missionId))) {
+            userRepository.syncMissionsCompleted(employeeId);
+            eventPublisher.publishEvent(new MissionCompletedEvent(employeeId, missionId));
+            return Optional.of(MissionResponse.of(mission));
         }
+        return wasUnlocked == mission.isUnlocked() ? Optional.empty() : Optional.of(MissionResponse.of(mission));
     }
 
-    // 미션4: 안돼도 다시 - 가챠 1~2회
+    /**
+     * 전체 사용자의 미션을 다시 계산한다 (시작 시 복구용).
+     * 미션별 원천 건수를 GROUP BY 한 번으로 읽어 사용자 수와 관계없이 쿼리 수가 일정하다.
+     *
+     * @return 새로 달성 처리된 미션 수
+     */
     @Transactional
-    public void onGachaAttempted(String employeeId, int attemptCount) {
-        Optional<UserMission> missionOpt = userMissionRepository
-                .findByUserEmployeeIdAndMissionId(employeeId, "M4");
-        if (missionOpt.isEmpty()) return;
-
-        UserMission mission = missionOpt.get();
-        if (attemptCount >= 1 && !mission.isUnlocked()) {
-            mission.unlock();
-        }
-        if (attemptCount >= 2 && !mission.isCompleted()) {
-            mission.complete();
-            incrementUserMissionsCompleted(employeeId);
+    public int reconcileAll() {
+        Map<String, Map<String, Long>> counts = Map.of(
+                "M1", toCountMap(commentRepository.countGroupByUser()),
+                "M2", toCountMap(growthZoneRepository.countGroupByUser()),
+                "M3", toCountMap(boothVisitRepository.countGroupByBoothOwner()),
+                "M4", toCountMap(gachaAttemptRepository.countGroupByUser()),
+                "M5", toCountMap(reviewRepository.countGroupByUser())
+        );
+
+        int completed = 0;
+        for (UserMission mission : userMissionRepository.findAll()) {
+            long count = counts.getOrDefault(mission.getMissionId(), Map.of())
+                    .getOrDefault(mission.getUser().getEmployeeId(), 0L);
+            if (apply(mission, count)) {
+                completed++;
+                eventPublisher.publishEvent(new MissionCompletedEvent(mission.getUser().getEmployeeId(), mission.getMissionId()));
+            }
         }
+        userRepository.syncAllMissionsCompleted();
+        return completed;
     }
 
-    // 미션5: 진정성 있게 - 리뷰 1~12개
-    @Transactional
-    public void onReviewAdded(String employeeId, int reviewCount) {
-        Optional<UserMission> missionOpt = userMissionRepository
-                .findByUserEmployeeIdAndMissionId(employeeId, "M5");
-        if (missionOpt.isEmpty()) return;
-
-        UserMission mission = missionOpt.get();
-        if (reviewCount >= 1 && !mission.isUnlocked()) {
-            mission.unlock();
-        }
-        // progress 직접 설정
-        if (!mission.isCompleted()) {
-            // UserMission의 progress를 reviewCount로 동기화
-            while (mission.getProgress() < reviewCount && !mission.isCompleted()) {
-                mission.incrementProgress();
+    /**
+     * 원천 건수를 미션에 반영한다. 진행도는 줄어들지 않으며 여러 번 적용해도 결과가 같다.
+     *
+     * @return 이번 적용으로 새로 달성되었으면 true
+     */
+    private boolean apply(UserMission mission, long count) {
+        boolean wasCompleted = mission.isCompleted();
+        switch (mission.getMissionId()) {
+            // 미션1: 내일 더 새롭게 - 댓글 1회, 미션2: 꿈을 원대하게 - 성장존 QR
+            case "M1", "M2" -> {
+                if (mission.isUnlocked()) {
+                    mission.syncProgress(count);
+                }
+            }
+            // 미션3: 반드시 결과로 - 내 부스 방문 인원 30명 공개, 70명 달성
+            case "M3" -> {
+                if (count >= M3_UNLOCK_VISITORS) mission.unlock();
+                if (count >= M3_COMPLETE_VISITORS) mission.complete();
             }
-            if (mission.isCompleted()) {
-                incrementUserMissionsCompleted(employeeId);
+            // 미션4: 안돼도 다시 - 가챠 1~2회
+            case "M4" -> {
+                if (count >= 1) mission.unlock();
+                if (count >= 2) mission.complete();
             }
+            // 미션5: 진정성 있게 - 리뷰 1~12개
+            case "M5" -> {
+                if (count >= 1) mission.unlock();
+                if (mission.isUnlocked()) {
+                    mission.syncProgress(count);
+                }
+            }
+            default -> log.warn("알 수 없는 미션: {}", mission.getMissionId());
         }
+        return !wasCompleted && mission.isCompleted();
     }
 
-    private void updateMissionProgress(String employeeId, String missionId) {
-        Optional<UserMission> missionOpt = userMissionRepository
-                .findByUserEmployeeIdAndMissionId(employeeId, missionId);
-        if (missionOpt.isEmpty()) return;
-
-        UserMission mission = missionOpt.get();
-        if (mission.isUnlocked() && !mission.isCompleted()) {
-            mission.incrementProgress();
-            if (mission.isCompleted()) {
-                incrementUserMissionsCompleted(employeeId);
-            }
-        }
+    private long sourceCount(String employeeId, String missionId) {
+        return switch (missionId) {
+            case "M1" -> commentRepository.countByUserEmployeeId(employeeId);
+            case "M2" -> growthZoneRepository.existsByUserEmployeeId(employeeId) ? 1 : 0;
+            case "M3" -> boothVisitRepository.countByBoothOwnerEmployeeId(employeeId);
+            case "M4" -> gachaAttemptRepository.countByUserEmployeeId(employeeId);
+            case "M5" -> reviewRepository.countByUserEmployeeId(employeeId);
+            default -> 0;
+        };
     }
 
-    private void incrementUserMissionsCompleted(String employeeId) {
-        userRepository.findById(employeeId).ifPresent(user -> {
-            user.incrementMissionsCompleted();
-            userRepository.save(user);
-        });
+    private Map<String, Long> toCountMap(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        rows.forEach(row -> counts.put((String) row[0], ((Number) row[1]).longValue()));
+        return counts;
     }
 
     @Transactional
@@ -124,7 +159,8 @@ public class MissionService {
 
         if (mission.isUnlocked() && !mission.isCompleted()) {
             mission.complete();
-            incrementUserMissionsCompleted(employeeId);
+            userRepository.syncMissionsCompleted(employeeId);
+            eventPublisher.publishEvent(new MissionCompletedEvent(employeeId, missionId));
         }
     }
 }
@@ -61,6 +61,16 @@ public class UserMission {
         }
     }
 
+    // 원천 건수로 진행도를 맞춘다 (감소하지 않음)
+    public void syncProgress(long count) {
+        if (!this.isCompleted && count > this.progress) {
+            this.progress = (int) Math.min(count, this.target);
+            if (this.progress >= this.target) {
+                complete();
+            }
+        }
+    }
+
     public void complete() {
         if (!this.isCompleted) {
             this.isCompleted = true;
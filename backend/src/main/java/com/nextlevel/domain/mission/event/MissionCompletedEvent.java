@@ -0,0 +1,6 @@
+package com.nextlevel.domain.mission.event;
+
+/**
+ * 미션이 새로 달성됨. users.missions_completed가 갱신된 뒤 커밋된다.
+ */
+public record MissionCompletedEvent(String employeeId, String missionId) {}
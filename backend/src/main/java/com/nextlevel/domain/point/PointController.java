@@ -1,56 +1,88 @@
 package com.nextlevel.domain.point;
 
 import com.nextlevel.common.ApiResponse;
-import com.nextlevel.domain.auth.dto.LoginResponse;
-import com.nextlevel.domain.user.User;
-import com.nextlevel.domain.user.UserRepository;
-import com.nextlevel.exception.BusinessException;
-import com.nextlevel.exception.EntityNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/points")
 @RequiredArgsConstructor
 public class PointController {
 
-    private final UserRepository userRepository;
+    private final PointLedgerService pointLedgerService;
 
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<PointBalance>> getMyPoints(@AuthenticationPrincipal String employeeId) {
-        User user = userRepository.findById(employeeId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
-        return ResponseEntity.ok(ApiResponse.success(new PointBalance(user.getTotalPoints())));
+        return ResponseEntity.ok(ApiResponse.success(new PointBalance(pointLedgerService.getBalance(employeeId))));
     }
 
+    // 차감 후 잔액은 원장 CAS 결과를 그대로 돌려준다 (다시 조회하지 않음)
     @PostMapping("/deduct")
-    @Transactional
     public ResponseEntity<ApiResponse<PointBalance>> deductPoints(
             @AuthenticationPrincipal String employeeId,
             @Valid @RequestBody DeductRequest request) {
-        User user = userRepository.findById(employeeId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
+        int balance = pointLedgerService.debit(employeeId, request.getAmount(), PointLedgerEntry.Reason.SHOP);
+        return ResponseEntity.ok(ApiResponse.success(new PointBalance(balance)));
+    }
 
-        if (user.getTotalPoints() < request.getAmount()) {
-            throw new BusinessException("포인트가 부족합니다.", HttpStatus.BAD_REQUEST, "POINT_INSUFFICIENT");
-        }
-        user.deductPoints(request.getAmount());
-        userRepository.save(user);
-        return ResponseEntity.ok(ApiResponse.success(new PointBalance(user.getTotalPoints())));
+    // 상점 키오스크 정산: 전원 차감되거나 아무도 차감되지 않는다
+    @PostMapping("/deduct/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<EmployeeBalance>>> deductPointsBulk(
+            @Valid @RequestBody BulkDeductRequest request) {
+        // 같은 사번이 여러 번 오면 합산해 한 번에 차감한다
+        Map<String, Integer> amounts = new LinkedHashMap<>();
+        request.getItems().forEach(item -> amounts.merge(item.getEmployeeId(), item.getAmount(), Integer::sum));
+        List<EmployeeBalance> balances = pointLedgerService.debitAll(amounts, PointLedgerEntry.Reason.SHOP)
+                .entrySet().stream()
+                .map(entry -> new EmployeeBalance(entry.getKey(), entry.getValue()))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(balances));
     }
 
     @Getter
     @NoArgsConstructor
     public static class DeductRequest {
+        @Min(value = 1, message = "차감 포인트는 1 이상이어야 합니다.")
         private int amount;
     }
 
+    @Getter
+    @NoArgsConstructor
+    public static class BulkDeductRequest {
+        @NotEmpty(message = "차감 항목이 없습니다.")
+        @Size(max = 100, message = "한 번에 최대 100건까지 차감할 수 있습니다.")
+        private List<@Valid Item> items;
+
+        @Getter
+        @NoArgsConstructor
+        public static class Item {
+            @NotBlank(message = "사번이 없습니다.")
+            private String employeeId;
+
+            // 같은 사번 합산 시 int 범위를 넘지 않도록 제한한다
+            @Min(value = 1, message = "차감 포인트는 1 이상이어야 합니다.")
+            @Max(value = 1_000_000, message = "차감 포인트가 너무 큽니다.")
+            private int amount;
+        }
+    }
+
     public record PointBalance(int totalPoints) {}
+
+    public record EmployeeBalance(String employeeId, int totalPoints) {}
 }
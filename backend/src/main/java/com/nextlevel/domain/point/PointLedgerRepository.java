@@ -0,0 +1,46 @@
+package com.nextlevel.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
+
+    // 스냅샷 이후(afterEntryId 초과) 원장 합계
+    @Query("""
+        SELECT COALESCE(SUM(l.amount), 0) FROM PointLedgerEntry l
+        WHERE l.user.employeeId = :employeeId AND l.entryId > :afterEntryId
+        """)
+    long sumAfter(@Param("employeeId") String employeeId, @Param("afterEntryId") long afterEntryId);
+
+    // 사용자별 스냅샷 이후 원장 합계 (employeeId, 합계)
+    @Query("""
+        SELECT l.user.employeeId, SUM(l.amount)
+        FROM PointLedgerEntry l
+        WHERE l.entryId > COALESCE(
+            (SELECT s.lastEntryId FROM PointSnapshot s WHERE s.employeeId = l.user.employeeId), 0)
+        GROUP BY l.user.employeeId
+        """)
+    List<Object[]> sumAfterSnapshotGroupByUser();
+
+    // 누적 적립 포인트 (원장은 압축 후에도 지우지 않는다)
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedgerEntry l WHERE l.amount > 0")
+    long sumCredited();
+
+    @Query("SELECT MAX(l.entryId) FROM PointLedgerEntry l WHERE l.createdAt < :cutoff")
+    Long findMaxEntryIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 압축 대상: 사용자별 (employeeId, 합계, 마지막 항목 ID), watermark 이하이면서 스냅샷 이후인 항목
+    @Query("""
+        SELECT l.user.employeeId, SUM(l.amount), MAX(l.entryId)
+        FROM PointLedgerEntry l
+        WHERE l.entryId <= :watermark
+          AND l.entryId > COALESCE(
+              (SELECT s.lastEntryId FROM PointSnapshot s WHERE s.employeeId = l.user.employeeId), 0)
+        GROUP BY l.user.employeeId
+        """)
+    List<Object[]> summarizeTail(@Param("watermark") long watermark);
+}
@@ -0,0 +1,254 @@
+package com.nextlevel.domain.point;
+
+import com.nextlevel.common.TransactionCallbacks;
+import com.nextlevel.domain.point.event.PointBalanceChangedEvent;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 원장 서비스.
+ * 적립/차감은 point_ledger에 추가만 하고, 잔액은 스냅샷 + 이후 원장 합계로 계산해 메모리에 캐시한다.
+ * 차감은 캐시된 잔액에 CAS로 먼저 반영하므로 동시 요청에서도 잔액이 음수가 되지 않으며,
+ * 트랜잭션이 롤백되면 캐시 잔액을 되돌린다. 적립은 커밋된 뒤에만 캐시에 더해 미커밋 적립분을 차감에 쓰지 못하게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO point_ledger (employee_id, amount, reason, created_at) VALUES (?, ?, ?, ?)";
+
+    // 스냅샷이 없는 사용자의 기존 users.total_points를 원장 0번 이후 기준 스냅샷으로 옮긴다
+    private static final String SEED_SNAPSHOTS_SQL = """
+            INSERT INTO point_snapshots (employee_id, balance, last_entry_id, compacted_at)
+            SELECT u.employee_id, u.total_points, 0, CURRENT_TIMESTAMP FROM users u
+            WHERE u.total_points <> 0
+              AND NOT EXISTS (SELECT 1 FROM point_snapshots s WHERE s.employee_id = u.employee_id)
+            """;
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${point.compaction-grace-ms}")
+    private long compactionGraceMs;
+
+    // employeeId → 현재 잔액 (스냅샷 + 원장 꼬리)
+    private final Map<String, AtomicInteger> balances = new ConcurrentHashMap<>();
+
+    /**
+     * 원장 도입 전에 users.total_points로만 쌓인 포인트를 스냅샷으로 옮긴다.
+     * 그대로 두면 잔액이 0으로 보이고, 다음 압축이 그 0을 users.total_points에 덮어쓴다.
+     * 잔액을 처음 읽기 전에 실행되도록 빈 초기화 시점에 한 번 돌리며, 스냅샷이 있는 사용자는 건너뛰므로 여러 번 실행해도 같다.
+     */
+    @PostConstruct
+    void seedSnapshotsFromUsers() {
+        int seeded = jdbcTemplate.update(SEED_SNAPSHOTS_SQL);
+        if (seeded > 0) {
+            log.info("기존 users.total_points로 포인트 스냅샷 적재: {}명", seeded);
+        }
+    }
+
+    public int getBalance(String employeeId) {
+        return balanceOf(employeeId).get();
+    }
+
+    /**
+     * 포인트를 적립한다. 캐시 잔액에는 커밋 후 더한다.
+     *
+     * @return 커밋 후 예상 잔액
+     */
+    @Transactional
+    public int credit(String employeeId, int amount, PointLedgerEntry.Reason reason) {
+        // 원장 추가 전에 잔액을 적재해야 새 항목이 이중으로 더해지지 않는다
+        AtomicInteger balance = balanceOf(employeeId);
+        int expected = balance.get() + amount;
+        append(employeeId, amount, reason);
+        TransactionCallbacks.afterCommit(() -> balance.addAndGet(amount));
+        eventPublisher.publishEvent(new PointBalanceChangedEvent(List.of(employeeId), amount));
+        return expected;
+    }
+
+    /**
+     * 여러 사용자에게 같은 포인트를 적립한다 (일괄 스캔용). 원장 행은 JDBC 배치로 추가하고, 캐시 잔액에는 커밋 후 더한다.
+     * 같은 사용자가 여러 번 포함되면 그만큼 적립한다.
+     */
+    @Transactional
+    public void creditAll(List<String> employeeIds, int amount, PointLedgerEntry.Reason reason) {
+        // 원장 추가 전에 잔액을 적재해야 새 항목이 이중으로 더해지지 않는다
+        List<AtomicInteger> credited = employeeIds.stream().map(this::balanceOf).toList();
+        TransactionCallbacks.afterCommit(() -> credited.forEach(balance -> balance.addAndGet(amount)));
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, employeeIds, employeeIds.size(), (ps, employeeId) -> {
+            ps.setString(1, employeeId);
+            ps.setInt(2, amount);
+            ps.setString(3, reason.name());
+            ps.setTimestamp(4, createdAt);
+        });
+        eventPublisher.publishEvent(new PointBalanceChangedEvent(List.copyOf(employeeIds), (long) amount * employeeIds.size()));
+    }
+
+    /**
+     * 포인트를 차감한다. 잔액이 부족하면 원장에 기록하지 않고 예외를 던진다.
+     *
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public int debit(String employeeId, int amount, PointLedgerEntry.Reason reason) {
+        AtomicInteger balance = balanceOf(employeeId);
+        int current;
+        do {
+            current = balance.get();
+            if (current < amount) {
+                throw new BusinessException("포인트가 부족합니다.", HttpStatus.BAD_REQUEST, "POINT_INSUFFICIENT");
+            }
+        } while (!balance.compareAndSet(current, current - amount));
+        // 롤백되면 캐시 잔액을 되돌린다
+        TransactionCallbacks.afterRollback(() -> balance.addAndGet(amount));
+
+        append(employeeId, -amount, reason);
+        eventPublisher.publishEvent(new PointBalanceChangedEvent(List.of(employeeId), 0));
+        return current - amount;
+    }
+
+    /**
+     * 여러 사용자의 포인트를 한 번에 차감한다 (상점 키오스크 정산용).
+     * 한 명이라도 잔액이 부족하면 아무도 차감하지 않는다. 원장 행은 JDBC 배치로 추가한다.
+     *
+     * @param amounts employeeId → 차감액 (순서대로 처리)
+     * @return employeeId → 차감 후 잔액
+     */
+    @Transactional
+    public Map<String, Integer> debitAll(Map<String, Integer> amounts, PointLedgerEntry.Reason reason) {
+        Map<String, Integer> balances = new LinkedHashMap<>();
+        List<Runnable> rollbacks = new ArrayList<>();
+        // 중간에 실패해도 앞서 CAS로 차감한 잔액은 롤백 시 되돌린다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    rollbacks.forEach(Runnable::run);
+                }
+            }
+        });
+        amounts.forEach((employeeId, amount) -> {
+            AtomicInteger balance = balanceOf(employeeId);
+            int current;
+            do {
+                current = balance.get();
+                if (current < amount) {
+                    throw new BusinessException("포인트가 부족합니다. (" + employeeId + ")",
+                            HttpStatus.BAD_REQUEST, "POINT_INSUFFICIENT");
+                }
+            } while (!balance.compareAndSet(current, current - amount));
+            rollbacks.add(() -> balance.addAndGet(amount));
+            balances.put(employeeId, current - amount);
+        });
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<String, Integer>> entries = List.copyOf(amounts.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setInt(2, -entry.getValue());
+            ps.setString(3, reason.name());
+            ps.setTimestamp(4, createdAt);
+        });
+        eventPublisher.publishEvent(new PointBalanceChangedEvent(List.copyOf(amounts.keySet()), 0));
+        return balances;
+    }
+
+    private void append(String employeeId, int delta, PointLedgerEntry.Reason reason) {
+        pointLedgerRepository.save(PointLedgerEntry.builder()
+                .user(userRepository.getReferenceById(employeeId))
+                .amount(delta)
+                .reason(reason)
+                .build());
+    }
+
+    /**
+     * 사용자들의 잔액을 스냅샷 + 원장 꼬리 합계 두 쿼리로 한 번에 캐시에 적재하고 현재 잔액을 돌려준다.
+     * 원장이 없는 사용자는 0으로 적재하며, 이미 캐시된 사용자는 캐시 값을 그대로 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> loadAllBalances(Collection<String> employeeIds) {
+        Map<String, Integer> loaded = new HashMap<>();
+        employeeIds.forEach(employeeId -> loaded.put(employeeId, 0));
+        pointSnapshotRepository.findAll().forEach(snapshot -> loaded.put(snapshot.getEmployeeId(), snapshot.getBalance()));
+        pointLedgerRepository.sumAfterSnapshotGroupByUser()
+                .forEach(row -> loaded.merge((String) row[0], ((Number) row[1]).intValue(), Integer::sum));
+
+        Map<String, Integer> current = new HashMap<>();
+        loaded.forEach((employeeId, balance) -> current.put(employeeId,
+                balances.computeIfAbsent(employeeId, id -> new AtomicInteger(balance)).get()));
+        return current;
+    }
+
+    // 캐시에 없으면 스냅샷 + 이후 원장 합계로 적재한다
+    private AtomicInteger balanceOf(String employeeId) {
+        AtomicInteger cached = balances.get(employeeId);
+        if (cached != null) return cached;
+
+        PointSnapshot snapshot = pointSnapshotRepository.findById(employeeId).orElse(null);
+        int base = snapshot == null ? 0 : snapshot.getBalance();
+        long lastEntryId = snapshot == null ? 0 : snapshot.getLastEntryId();
+        int loaded = base + (int) pointLedgerRepository.sumAfter(employeeId, lastEntryId);
+        return balances.computeIfAbsent(employeeId, id -> new AtomicInteger(loaded));
+    }
+
+    /**
+     * 원장 꼬리를 스냅샷으로 압축한다.
+     * 아직 커밋되지 않은 항목을 건너뛰지 않도록 유예 시간 이전에 생성된 항목까지만 압축하고,
+     * users.total_points도 스냅샷 잔액으로 맞춘다.
+     */
+    @Scheduled(fixedDelayString = "${point.compaction-interval-ms}")
+    @Transactional
+    public void compact() {
+        Long watermark = pointLedgerRepository.findMaxEntryIdBefore(
+                LocalDateTime.now().minus(Duration.ofMillis(compactionGraceMs)));
+        if (watermark == null) return;
+
+        List<Object[]> tails = pointLedgerRepository.summarizeTail(watermark);
+        if (tails.isEmpty()) return;
+
+        List<String> employeeIds = new ArrayList<>();
+        for (Object[] row : tails) {
+            String employeeId = (String) row[0];
+            PointSnapshot snapshot = pointSnapshotRepository.findById(employeeId)
+                    .orElseGet(() -> PointSnapshot.builder().employeeId(employeeId).build());
+            snapshot.compact(((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+            pointSnapshotRepository.save(snapshot);
+            employeeIds.add(employeeId);
+        }
+        pointSnapshotRepository.flush();
+        userRepository.syncTotalPointsFromSnapshot(employeeIds);
+        log.debug("포인트 원장 압축 완료: 사용자 {}명, watermark={}", employeeIds.size(), watermark);
+    }
+}
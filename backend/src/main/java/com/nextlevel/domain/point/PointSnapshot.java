@@ -0,0 +1,41 @@
+package com.nextlevel.domain.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 잔액 스냅샷. lastEntryId까지의 원장 항목을 합산한 값이다.
+ * 현재 잔액 = balance + (lastEntryId 이후 원장 항목 합계)
+ */
+@Entity
+@Table(name = "point_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PointSnapshot {
+
+    @Id
+    @Column(name = "employee_id", length = 20)
+    private String employeeId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int balance = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private long lastEntryId = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime compactedAt = LocalDateTime.now();
+
+    public void compact(int delta, long lastEntryId) {
+        this.balance += delta;
+        this.lastEntryId = lastEntryId;
+        this.compactedAt = LocalDateTime.now();
+    }
+}
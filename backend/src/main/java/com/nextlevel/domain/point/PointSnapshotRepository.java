@@ -0,0 +1,6 @@
+package com.nextlevel.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointSnapshotRepository extends JpaRepository<PointSnapshot, String> {
+}
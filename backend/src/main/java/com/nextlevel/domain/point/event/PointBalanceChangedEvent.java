@@ -0,0 +1,11 @@
+package com.nextlevel.domain.point.event;
+
+import java.util.List;
+
+/**
+ * 포인트 잔액이 바뀜 (적립·차감). 수신 측은 현재 잔액을 다시 읽는다.
+ *
+ * @param employeeIds 잔액이 바뀐 사용자 (중복 가능)
+ * @param credited    이번 변경으로 적립된 포인트 합계 (차감이면 0)
+ */
+public record PointBalanceChangedEvent(List<String> employeeIds, long credited) {}
@@ -19,10 +19,12 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 50)
     private String name;
 
+    // 포인트 원장 스냅샷 잔액 (압축 시 갱신, 현재 잔액은 PointLedgerService 기준)
     @Column(nullable = false)
     @Builder.Default
     private int totalPoints = 0;
 
+    // 달성 미션 수 (user_missions 기준으로 재집계)
     @Column(nullable = false)
     @Builder.Default
     private int missionsCompleted = 0;
@@ -35,19 +37,4 @@ public class User extends BaseTimeEntity {
     public enum Role {
         USER, ADMIN
     }
-
-    public void addPoints(int points) {
-        this.totalPoints += points;
-    }
-
-    public void deductPoints(int points) {
-        if (this.totalPoints < points) {
-            throw new IllegalStateException("포인트가 부족합니다.");
-        }
-        this.totalPoints -= points;
-    }
-
-    public void incrementMissionsCompleted() {
-        this.missionsCompleted++;
-    }
 }
@@ -2,6 +2,7 @@ package com.nextlevel.domain.user;
 
 import com.nextlevel.common.ApiResponse;
 import com.nextlevel.domain.auth.dto.LoginResponse;
+import com.nextlevel.domain.point.PointLedgerService;
 import com.nextlevel.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,11 +15,12 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final PointLedgerService pointLedgerService;
 
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<LoginResponse>> getMe(@AuthenticationPrincipal String employeeId) {
         User user = userRepository.findById(employeeId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
-        return ResponseEntity.ok(ApiResponse.success(LoginResponse.of(null, user)));
+        return ResponseEntity.ok(ApiResponse.success(LoginResponse.of(null, user, pointLedgerService.getBalance(employeeId))));
     }
 }
@@ -1,10 +1,45 @@
 package com.nextlevel.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findByEmployeeIdAndName(String employeeId, String name);
+
+    @Query("SELECT u.employeeId FROM User u WHERE u.employeeId IN :employeeIds")
+    Set<String> findExistingIds(@Param("employeeIds") Collection<String> employeeIds);
+
+    // 포인트 원장 압축 후 스냅샷 잔액을 users.total_points에 반영
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.totalPoints = (SELECT s.balance FROM PointSnapshot s WHERE s.employeeId = u.employeeId)
+        WHERE u.employeeId IN :employeeIds
+        """)
+    int syncTotalPointsFromSnapshot(@Param("employeeIds") Collection<String> employeeIds);
+
+    // 달성 미션 수를 user_missions 기준으로 재집계
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.missionsCompleted = CAST((SELECT COUNT(m) FROM UserMission m
+                                        WHERE m.user.employeeId = u.employeeId AND m.isCompleted = true) AS Integer)
+        WHERE u.employeeId = :employeeId
+        """)
+    int syncMissionsCompleted(@Param("employeeId") String employeeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.missionsCompleted = CAST((SELECT COUNT(m) FROM UserMission m
+                                        WHERE m.user.employeeId = u.employeeId AND m.isCompleted = true) AS Integer)
+        """)
+    int syncAllMissionsCompleted();
 }
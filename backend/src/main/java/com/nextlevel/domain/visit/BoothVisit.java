@@ -41,6 +41,10 @@ public class BoothVisit {
     @Builder.Default
     private int pointsEarned = 10;
 
+    // 일괄 스캔 항목의 (멱등성 키, QR 토큰, 부스) 해시 (단건 스캔은 null)
+    @Column(length = 64, unique = true)
+    private String idempotencyKey;
+
     public enum VisitStatus {
         WAITING, FINISHED
     }
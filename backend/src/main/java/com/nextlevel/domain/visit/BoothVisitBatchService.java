@@ -0,0 +1,185 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.point.PointLedgerEntry;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.BatchScanRequest;
+import com.nextlevel.domain.visit.dto.BatchScanResponse;
+import com.nextlevel.domain.visit.dto.BatchScanResponse.ItemResult;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import com.nextlevel.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부스 스캐너의 오프라인 스캔 일괄 처리.
+ * 연결이 끊긴 동안 쌓인 스캔을 한 요청·한 트랜잭션으로 반영한다.
+ * 항목별로 QR 검증, 중복 판정을 하고 실패한 항목이 있어도 나머지는 기록한다.
+ * 판정 후 단건 스캔이 끼어들어 생긴 충돌도 해당 항목만 DUPLICATE로 돌려준다.
+ * 멱등성 키는 단건 스캔처럼 (키, QR 토큰, 부스)로 범위를 좁혀 저장하므로,
+ * 같은 항목을 다시 보내면 이미 기록된 방문을 그대로 돌려주고 키가 재사용·충돌해도 남의 방문을 돌려주지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoothVisitBatchService {
+
+    private static final int VISIT_POINTS = 10;
+    // 판정 이후 끼어든 방문은 유니크 제약에 걸려 건너뛴다
+    // 다중 행 INSERT로 재작성되면 행별 결과를 알 수 없으므로(SUCCESS_NO_INFO) 결과 수는 보지 않는다
+    private static final String INSERT_VISIT_SQL = """
+        INSERT IGNORE INTO booth_visits (booth_id, user_id, status, visited_at, points_earned, idempotency_key)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final BoothVisitRepository boothVisitRepository;
+    private final VisitedBoothIndex visitedBoothIndex;
+    private final BoothRepository boothRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기록 후 다시 읽은 행이 이 트랜잭션이 넣은 행이 되도록 첫 조회 시점의 스냅샷으로 읽는다
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public BatchScanResponse scanBatch(BatchScanRequest request) {
+        // 같은 키가 한 요청에 여러 번 오면 첫 항목 기준으로 한 번만 처리한다
+        Map<String, BatchScanRequest.Item> items = new LinkedHashMap<>();
+        request.getItems().forEach(item -> items.putIfAbsent(item.getIdempotencyKey(), item));
+
+        Map<String, ItemResult> results = new HashMap<>();
+        List<Scan> scans = new ArrayList<>();
+        for (BatchScanRequest.Item item : items.values()) {
+            try {
+                String employeeId = jwtTokenProvider.getQrEmployeeId(item.getQrToken());
+                scans.add(new Scan(item.getIdempotencyKey(),
+                        ScanIdempotencyStore.scopedKey(item.getIdempotencyKey(), item.getQrToken(), item.getBoothId()),
+                        employeeId, item.getBoothId()));
+            } catch (JwtException e) {
+                results.put(item.getIdempotencyKey(), ItemResult.failed(item.getIdempotencyKey(),
+                        "QR_INVALID", "유효하지 않거나 만료된 QR 코드입니다."));
+            }
+        }
+
+        if (!scans.isEmpty()) {
+            record(scans, results);
+        }
+
+        List<ItemResult> ordered = request.getItems().stream()
+                .map(item -> results.get(item.getIdempotencyKey()))
+                .toList();
+        return BatchScanResponse.of(ordered);
+    }
+
+    private void record(List<Scan> scans, Map<String, ItemResult> results) {
+        Set<String> existingUsers = userRepository.findExistingIds(
+                scans.stream().map(Scan::employeeId).collect(Collectors.toSet()));
+
+        Map<String, Booth> booths = boothRepository.findAllById(
+                        scans.stream().map(Scan::boothId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Booth::getBoothId, Function.identity()));
+
+        // 이전 요청에서 이미 기록된 항목
+        Map<String, Scan> byStoredKey = scans.stream()
+                .collect(Collectors.toMap(Scan::storedKey, Function.identity()));
+        for (BoothVisit visit : boothVisitRepository.findByIdempotencyKeyIn(byStoredKey.keySet())) {
+            String key = byStoredKey.get(visit.getIdempotencyKey()).idempotencyKey();
+            results.put(key, ItemResult.recorded(key, VisitResponse.of(visit, visit.getBooth().getName())));
+        }
+
+        // 중복 방문은 한 번의 조회로 판정한다
+        Set<String> visitedPairs = new HashSet<>();
+        if (!booths.isEmpty() && !existingUsers.isEmpty()) {
+            boothVisitRepository.findPairsIn(booths.keySet(), existingUsers)
+                    .forEach(row -> visitedPairs.add(pairKey((String) row[0], (String) row[1])));
+        }
+
+        List<Scan> accepted = new ArrayList<>();
+        for (Scan scan : scans) {
+            String key = scan.idempotencyKey();
+            if (results.containsKey(key)) continue;
+
+            if (!existingUsers.contains(scan.employeeId())) {
+                results.put(key, ItemResult.failed(key, "ENTITY_NOT_FOUND", "존재하지 않는 사용자입니다."));
+            } else if (!booths.containsKey(scan.boothId())) {
+                results.put(key, ItemResult.failed(key, "ENTITY_NOT_FOUND", "존재하지 않는 부스입니다."));
+            } else if (!visitedPairs.add(pairKey(scan.boothId(), scan.employeeId()))) {
+                results.put(key, ItemResult.duplicate(key));
+            } else {
+                accepted.add(scan);
+            }
+        }
+        if (accepted.isEmpty()) return;
+
+        Map<Scan, BoothVisit> inserted = insertVisits(accepted);
+        accepted.stream()
+                .filter(scan -> !inserted.containsKey(scan))
+                .forEach(scan -> results.put(scan.idempotencyKey(), ItemResult.duplicate(scan.idempotencyKey())));
+        if (inserted.isEmpty()) return;
+
+        pointLedgerService.creditAll(inserted.keySet().stream().map(Scan::employeeId).toList(),
+                VISIT_POINTS, PointLedgerEntry.Reason.VISIT);
+
+        inserted.forEach((scan, visit) -> {
+            Booth booth = booths.get(scan.boothId());
+            VisitResponse response = VisitResponse.of(visit, booth.getName());
+            results.put(scan.idempotencyKey(), ItemResult.recorded(scan.idempotencyKey(), response));
+
+            visitedBoothIndex.markVisitedAfterCommit(scan.employeeId(), scan.boothId());
+            eventPublisher.publishEvent(new VisitRecordedEvent(scan.employeeId(), booth.getOwnerEmployeeId(), response));
+        });
+    }
+
+    /**
+     * 방문을 배치로 추가하고 이 트랜잭션이 실제로 넣은 방문만 스캔별로 돌려준다.
+     * 중복 판정 후 끼어든 단건 스캔(같은 부스·사용자)이나 동시에 재전송된 같은 항목과 부딪힌 행은 건너뛰어지고,
+     * 저장 키로 다시 읽었을 때 보이지 않으므로 결과에서 빠진다.
+     * 다른 트랜잭션이 첫 조회 이후 커밋한 행은 REPEATABLE READ 스냅샷에 보이지 않는다.
+     */
+    private Map<Scan, BoothVisit> insertVisits(List<Scan> scans) {
+        Timestamp visitedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_VISIT_SQL, scans, scans.size(), (ps, scan) -> {
+            ps.setString(1, scan.boothId());
+            ps.setString(2, scan.employeeId());
+            ps.setString(3, BoothVisit.VisitStatus.FINISHED.name());
+            ps.setTimestamp(4, visitedAt);
+            ps.setInt(5, VISIT_POINTS);
+            ps.setString(6, scan.storedKey());
+        });
+
+        Map<String, Scan> byStoredKey = scans.stream()
+                .collect(Collectors.toMap(Scan::storedKey, Function.identity()));
+        Map<Scan, BoothVisit> inserted = new LinkedHashMap<>();
+        for (BoothVisit visit : boothVisitRepository.findByIdempotencyKeyIn(byStoredKey.keySet())) {
+            inserted.put(byStoredKey.get(visit.getIdempotencyKey()), visit);
+        }
+        return inserted;
+    }
+
+    private static String pairKey(String boothId, String employeeId) {
+        return boothId + ":" + employeeId;
+    }
+
+    // idempotencyKey는 스캐너가 보낸 키, storedKey는 booth_visits에 저장하는 범위 지정 키
+    private record Scan(String idempotencyKey, String storedKey, String employeeId, String boothId) {}
+}
@@ -1,17 +1,56 @@
 package com.nextlevel.domain.visit;
 
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface BoothVisitRepository extends JpaRepository<BoothVisit, Long> {
 
-    boolean existsByBoothBoothIdAndUserEmployeeId(String boothId, String employeeId);
+    // 내 방문 기록 (부스명까지 한 번에 조회, 최신순)
+    @Query("""
+        SELECT new com.nextlevel.domain.visit.dto.VisitResponse(
+            v.visitId, b.boothId, b.name, v.pointsEarned, v.visitedAt)
+        FROM BoothVisit v JOIN v.booth b
+        WHERE v.user.employeeId = :employeeId
+        ORDER BY v.visitedAt DESC, v.visitId DESC
+        """)
+    List<VisitResponse> findResponsesByEmployeeId(@Param("employeeId") String employeeId, Limit limit);
 
-    List<BoothVisit> findByUserEmployeeIdOrderByVisitedAtDesc(String employeeId);
+    int countByBoothBoothId(String boothId);
 
-    Optional<BoothVisit> findTopByUserEmployeeIdOrderByVisitedAtDesc(String employeeId);
+    // 방문 인덱스 적재용 (boothId, employeeId) 쌍
+    @Query("SELECT v.booth.boothId, v.user.employeeId FROM BoothVisit v")
+    List<Object[]> findAllBoothUserPairs();
 
-    int countByBoothBoothId(String boothId);
+    // 일괄 스캔 중복 판정: 주어진 부스·사용자 조합 중 이미 방문한 (boothId, employeeId) 쌍
+    @Query("""
+        SELECT v.booth.boothId, v.user.employeeId FROM BoothVisit v
+        WHERE v.booth.boothId IN :boothIds AND v.user.employeeId IN :employeeIds
+        """)
+    List<Object[]> findPairsIn(@Param("boothIds") Collection<String> boothIds,
+                               @Param("employeeIds") Collection<String> employeeIds);
+
+    @Query("SELECT v FROM BoothVisit v JOIN FETCH v.booth WHERE v.idempotencyKey IN :keys")
+    List<BoothVisit> findByIdempotencyKeyIn(@Param("keys") Collection<String> keys);
+
+    // 부스 소유자 기준 방문 수 (미션3)
+    @Query("SELECT COUNT(v) FROM BoothVisit v WHERE v.booth.ownerEmployeeId = :ownerEmployeeId")
+    long countByBoothOwnerEmployeeId(@Param("ownerEmployeeId") String ownerEmployeeId);
+
+    // 미션 재계산용 (부스 소유자 employeeId, 방문 수)
+    @Query("""
+        SELECT v.booth.ownerEmployeeId, COUNT(v) FROM BoothVisit v
+        WHERE v.booth.ownerEmployeeId IS NOT NULL
+        GROUP BY v.booth.ownerEmployeeId
+        """)
+    List<Object[]> countGroupByBoothOwner();
+
+    // 관리자 대시보드 시작 시 적재용 (구역, 방문 수)
+    @Query("SELECT v.booth.zone, COUNT(v) FROM BoothVisit v GROUP BY v.booth.zone")
+    List<Object[]> countGroupByZone();
 }
@@ -1,44 +1,108 @@
 package com.nextlevel.domain.visit;
 
-import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.common.ExpiringCache;
 import com.nextlevel.domain.booth.BoothRepository;
-import com.nextlevel.domain.mission.MissionService;
-import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.booth.dto.BoothScanView;
+import com.nextlevel.domain.point.PointLedgerEntry;
+import com.nextlevel.domain.point.PointLedgerService;
 import com.nextlevel.domain.user.UserRepository;
 import com.nextlevel.domain.visit.dto.QrResponse;
 import com.nextlevel.domain.visit.dto.ScanRequest;
 import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
 import com.nextlevel.exception.BusinessException;
 import com.nextlevel.exception.EntityNotFoundException;
+import com.nextlevel.security.IssuedQrToken;
 import com.nextlevel.security.JwtTokenProvider;
 import io.jsonwebtoken.JwtException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 @Service
-@RequiredArgsConstructor
 public class BoothVisitService {
 
+    private static final int VISIT_POINTS = 10;
+
     private final BoothVisitRepository boothVisitRepository;
+    private final VisitedBoothIndex visitedBoothIndex;
     private final BoothRepository boothRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final MissionService missionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointLedgerService pointLedgerService;
+    // employeeId → 발급한 QR (만료 refresh-window 전까지 재사용)
+    private final ExpiringCache<String, QrResponse> issuedQrs;
+    private final long qrRefreshWindowMs;
+
+    @Autowired
+    public BoothVisitService(BoothVisitRepository boothVisitRepository,
+                             VisitedBoothIndex visitedBoothIndex,
+                             BoothRepository boothRepository,
+                             UserRepository userRepository,
+                             JwtTokenProvider jwtTokenProvider,
+                             ApplicationEventPublisher eventPublisher,
+                             PointLedgerService pointLedgerService,
+                             @Value("${visit.qr-cache.max-size}") int qrCacheMaxSize,
+                             @Value("${visit.qr-cache.refresh-window-ms}") long qrRefreshWindowMs) {
+        this(boothVisitRepository, visitedBoothIndex, boothRepository, userRepository, jwtTokenProvider,
+                eventPublisher, pointLedgerService, qrCacheMaxSize, qrRefreshWindowMs, System::currentTimeMillis);
+    }
 
+    BoothVisitService(BoothVisitRepository boothVisitRepository,
+                      VisitedBoothIndex visitedBoothIndex,
+                      BoothRepository boothRepository,
+                      UserRepository userRepository,
+                      JwtTokenProvider jwtTokenProvider,
+                      ApplicationEventPublisher eventPublisher,
+                      PointLedgerService pointLedgerService,
+                      int qrCacheMaxSize,
+                      long qrRefreshWindowMs,
+                      LongSupplier clock) {
+        this.boothVisitRepository = boothVisitRepository;
+        this.visitedBoothIndex = visitedBoothIndex;
+        this.boothRepository = boothRepository;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.eventPublisher = eventPublisher;
+        this.pointLedgerService = pointLedgerService;
+        this.issuedQrs = new ExpiringCache<>(qrCacheMaxSize, clock);
+        this.qrRefreshWindowMs = qrRefreshWindowMs;
+    }
+
+    /**
+     * 내 QR 발급. 만료가 refresh-window 이상 남은 토큰은 캐시에서 그대로 돌려주므로
+     * QR 화면이 다시 그려질 때마다 새로 서명하지 않고, 같은 토큰이면 ETag로 304 응답이 가능하다.
+     */
     public QrResponse generateQr(String employeeId) {
-        String qrToken = jwtTokenProvider.generateQrToken(employeeId);
-        return QrResponse.builder()
-                .qrToken(qrToken)
+        QrResponse cached = issuedQrs.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+        IssuedQrToken issued = jwtTokenProvider.issueQrToken(employeeId);
+        QrResponse response = QrResponse.builder()
+                .qrToken(issued.token())
                 .employeeId(employeeId)
-                .expiresAt(System.currentTimeMillis() + 600_000L)
+                .expiresAt(issued.expiresAt())
                 .build();
+        issuedQrs.put(employeeId, response, issued.expiresAt() - qrRefreshWindowMs);
+        return response;
     }
 
+    /**
+     * 방문 스캔 처리.
+     * 부스 행을 갱신하지 않고 방문·원장 INSERT만 하므로 인기 부스에서도 행 락 경합이 없다.
+     * 중복 방지는 유니크 제약이 담당하고, 방문자 수는 커밋 후 BoothVisitorCounter가 센다.
+     */
     @Transactional
     public VisitResponse scan(ScanRequest request) {
         // QR 토큰 검증
@@ -48,52 +112,56 @@ public class BoothVisitService {
         } catch (JwtException e) {
             throw new BusinessException("유효하지 않거나 만료된 QR 코드입니다.", HttpStatus.BAD_REQUEST, "QR_INVALID");
         }
+        String boothId = request.getBoothId();
 
-        Booth booth = boothRepository.findById(request.getBoothId())
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 부스입니다."));
-        User user = userRepository.findById(employeeId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사용자입니다."));
+        // 중복 방문 확인 (재시도 스캔이 락을 잡기 전에 메모리 인덱스로 걸러낸다)
+        if (visitedBoothIndex.hasVisited(employeeId, boothId)) {
+            throw duplicateVisit();
+        }
 
-        // 중복 방문 확인
-        if (boothVisitRepository.existsByBoothBoothIdAndUserEmployeeId(request.getBoothId(), employeeId)) {
-            throw new BusinessException("이미 방문한 부스입니다.", HttpStatus.CONFLICT, "VISIT_DUPLICATE");
+        if (!userRepository.existsById(employeeId)) {
+            throw new EntityNotFoundException("존재하지 않는 사용자입니다.");
         }
+        BoothScanView booth = boothRepository.findScanViewByBoothId(boothId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 부스입니다."));
 
         BoothVisit visit = BoothVisit.builder()
-                .booth(booth)
-                .user(user)
+                .booth(boothRepository.getReferenceById(boothId))
+                .user(userRepository.getReferenceById(employeeId))
                 .status(BoothVisit.VisitStatus.FINISHED)
                 .visitedAt(LocalDateTime.now())
-                .pointsEarned(10)
+                .pointsEarned(VISIT_POINTS)
                 .build();
-        boothVisitRepository.save(visit);
+        try {
+            boothVisitRepository.saveAndFlush(visit);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateVisit();
+        }
+        // 포인트 지급 (원장 적립)
+        pointLedgerService.credit(employeeId, VISIT_POINTS, PointLedgerEntry.Reason.VISIT);
+        visitedBoothIndex.markVisitedAfterCommit(employeeId, boothId);
 
-        // 부스 방문자 수 증가
-        booth.incrementVisitorCount();
-        boothRepository.save(booth);
+        VisitResponse response = VisitResponse.of(visit, booth.getName());
 
-        // 포인트 지급
-        user.addPoints(10);
-        userRepository.save(user);
+        // 방문자 수 집계, 방문자 QR 화면 알림은 커밋 후 이벤트로 처리
+        eventPublisher.publishEvent(new VisitRecordedEvent(employeeId, booth.getOwnerEmployeeId(), response));
 
-        // 부스 소유자의 미션3 체크
-        if (booth.getOwnerEmployeeId() != null) {
-            missionService.onBoothVisitCountUpdated(booth.getOwnerEmployeeId(), booth.getVisitorCount());
-        }
+        return response;
+    }
 
-        return VisitResponse.of(visit);
+    private BusinessException duplicateVisit() {
+        return new BusinessException("이미 방문한 부스입니다.", HttpStatus.CONFLICT, "VISIT_DUPLICATE");
     }
 
     @Transactional(readOnly = true)
     public List<VisitResponse> getMyVisits(String employeeId) {
-        return boothVisitRepository.findByUserEmployeeIdOrderByVisitedAtDesc(employeeId)
-                .stream().map(VisitResponse::of).toList();
+        return boothVisitRepository.findResponsesByEmployeeId(employeeId, Limit.unlimited());
     }
 
     @Transactional(readOnly = true)
     public VisitResponse getLatestVisit(String employeeId) {
-        return boothVisitRepository.findTopByUserEmployeeIdOrderByVisitedAtDesc(employeeId)
-                .map(VisitResponse::of)
+        return boothVisitRepository.findResponsesByEmployeeId(employeeId, Limit.of(1)).stream()
+                .findFirst()
                 .orElse(null);
     }
 }
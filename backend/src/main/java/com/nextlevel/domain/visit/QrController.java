@@ -1,14 +1,18 @@
 package com.nextlevel.domain.visit;
 
 import com.nextlevel.common.ApiResponse;
+import com.nextlevel.domain.visit.dto.BatchScanRequest;
+import com.nextlevel.domain.visit.dto.BatchScanResponse;
 import com.nextlevel.domain.visit.dto.QrResponse;
 import com.nextlevel.domain.visit.dto.ScanRequest;
 import com.nextlevel.domain.visit.dto.VisitResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -16,17 +20,40 @@ import org.springframework.web.bind.annotation.*;
 public class QrController {
 
     private final BoothVisitService boothVisitService;
+    private final BoothVisitBatchService boothVisitBatchService;
+    private final ScanIdempotencyStore scanIdempotencyStore;
 
+    // 같은 토큰이 재사용되는 동안은 If-None-Match로 304 응답
     @GetMapping("/qr/my")
     public ResponseEntity<ApiResponse<QrResponse>> getMyQr(
-            @AuthenticationPrincipal String employeeId) {
-        return ResponseEntity.ok(ApiResponse.success(boothVisitService.generateQr(employeeId)));
+            @AuthenticationPrincipal String employeeId,
+            WebRequest webRequest) {
+        QrResponse qr = boothVisitService.generateQr(employeeId);
+        String etag = "\"" + qr.getExpiresAt() + "-" + Integer.toHexString(qr.getQrToken().hashCode()) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(qr));
     }
 
+    // 재시도 요청은 트랜잭션 없이 첫 결과를 돌려준다
     @PostMapping("/visits/scan")
     public ResponseEntity<ApiResponse<VisitResponse>> scan(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody ScanRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(boothVisitService.scan(request)));
+        String key = scanIdempotencyStore.keyOf(idempotencyKey, request);
+        return ResponseEntity.ok(ApiResponse.success(
+                scanIdempotencyStore.execute(key, () -> boothVisitService.scan(request))));
+    }
+
+    // 부스 스캐너가 오프라인 동안 쌓인 스캔을 한 번에 전송
+    @PostMapping("/visits/scan/batch")
+    public ResponseEntity<ApiResponse<BatchScanResponse>> scanBatch(
+            @Valid @RequestBody BatchScanRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(boothVisitBatchService.scanBatch(request)));
     }
 
     @GetMapping("/visits/my")
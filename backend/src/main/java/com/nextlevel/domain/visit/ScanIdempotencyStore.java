@@ -0,0 +1,109 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.common.ExpiringCache;
+import com.nextlevel.domain.visit.dto.ScanRequest;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 방문 스캔 재시도 중복 제거 저장소.
+ * 스캐너가 타임아웃 후 같은 요청을 다시 보내면 트랜잭션을 다시 실행하지 않고 첫 결과를 돌려준다.
+ * 키는 (Idempotency-Key 헤더, qrToken, boothId)의 해시, 헤더가 없으면 (qrToken, boothId)의 해시이며,
+ * 헤더 값이 재사용·충돌해도 요청 내용이 다르면 다른 키가 되어 남의 결과를 돌려주지 않는다.
+ * 처리 중인 요청은 완료를 기다렸다가 같은 결과를 받는다.
+ * 결과는 트랜잭션 밖에서 기록하므로 커밋된 결과만 재사용된다.
+ */
+@Component
+public class ScanIdempotencyStore {
+
+    private static final long IN_FLIGHT_WAIT_SECONDS = 10;
+
+    private final ExpiringCache<String, CompletableFuture<VisitResponse>> results;
+    private final long ttlMs;
+
+    public ScanIdempotencyStore(@Value("${visit.scan-idempotency.max-size}") int maxSize,
+                                @Value("${visit.scan-idempotency.ttl-ms}") long ttlMs) {
+        this.results = new ExpiringCache<>(maxSize);
+        this.ttlMs = ttlMs;
+    }
+
+    public String keyOf(String idempotencyKey, ScanRequest request) {
+        if (StringUtils.hasText(idempotencyKey)) {
+            return "key:" + scopedKey(idempotencyKey, request.getQrToken(), request.getBoothId());
+        }
+        return "scan:" + sha256(request.getQrToken() + "\n" + request.getBoothId());
+    }
+
+    // 일괄 스캔도 같은 범위로 booth_visits.idempotency_key에 저장한다 (43자)
+    static String scopedKey(String idempotencyKey, String qrToken, String boothId) {
+        return sha256(idempotencyKey + "\n" + qrToken + "\n" + boothId);
+    }
+
+    /**
+     * 같은 키의 첫 실행 결과를 돌려준다. 처음이면 scan을 실행한다.
+     * 비즈니스 예외(중복 방문, 잘못된 QR 등)도 결과로 기억하고, 그 밖의 예외는 기억하지 않아 재시도할 수 있다.
+     */
+    public VisitResponse execute(String key, Supplier<VisitResponse> scan) {
+        CompletableFuture<VisitResponse> mine = new CompletableFuture<>();
+        CompletableFuture<VisitResponse> first = results.putIfAbsent(key, mine, System.currentTimeMillis() + ttlMs);
+        if (first != null) {
+            return await(first);
+        }
+
+        try {
+            VisitResponse response = scan.get();
+            mine.complete(response);
+            return response;
+        } catch (BusinessException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException e) {
+            results.remove(key);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private VisitResponse await(CompletableFuture<VisitResponse> first) {
+        try {
+            return first.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private BusinessException inProgress() {
+        return new BusinessException("같은 스캔을 처리하고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT, "SCAN_IN_PROGRESS");
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
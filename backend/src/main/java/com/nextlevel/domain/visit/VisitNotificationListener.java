@@ -0,0 +1,27 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 방문이 커밋되면 방문자의 QR 화면(/user/queue/visits)으로 결과를 보낸다.
+ * 접속 중인 세션이 없으면 아무 일도 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitNotificationListener {
+
+    public static final String VISIT_QUEUE = "/queue/visits";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Async
+    @TransactionalEventListener
+    public void onVisitRecorded(VisitRecordedEvent event) {
+        messagingTemplate.convertAndSendToUser(event.employeeId(), VISIT_QUEUE, event.visit());
+    }
+}
@@ -0,0 +1,66 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.common.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 방문 부스 비트맵 인덱스.
+ * 부스마다 서수를 부여하고 사용자마다 방문한 부스 서수를 BitSet 하나로 보관한다.
+ * BitSet은 갱신 시 복사 후 교체하므로 조회는 락 없이 처리된다.
+ * 최종 중복 방지는 booth_visits 유니크 제약이 담당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitedBoothIndex {
+
+    private final BoothVisitRepository boothVisitRepository;
+
+    private final Map<String, Integer> boothOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final Map<String, BitSet> visitedByUser = new ConcurrentHashMap<>();
+
+    // 웹 서버가 요청을 받기 전에 기존 방문 기록으로 인덱스를 채운다
+    @PostConstruct
+    void load() {
+        List<Object[]> pairs = boothVisitRepository.findAllBoothUserPairs();
+        pairs.forEach(row -> markVisited((String) row[1], (String) row[0]));
+        log.info("방문 인덱스 로드 완료: 방문 {}건, 사용자 {}명", pairs.size(), visitedByUser.size());
+    }
+
+    public boolean hasVisited(String employeeId, String boothId) {
+        Integer ordinal = boothOrdinals.get(boothId);
+        if (ordinal == null) return false;
+        BitSet visited = visitedByUser.get(employeeId);
+        return visited != null && visited.get(ordinal);
+    }
+
+    // 방문은 지워지지 않으므로 방문 부스 수가 사용자별 버전 역할을 한다
+    public int visitedCount(String employeeId) {
+        BitSet visited = visitedByUser.get(employeeId);
+        return visited == null ? 0 : visited.cardinality();
+    }
+
+    public void markVisited(String employeeId, String boothId) {
+        int ordinal = boothOrdinals.computeIfAbsent(boothId, id -> nextOrdinal.getAndIncrement());
+        visitedByUser.compute(employeeId, (id, visited) -> {
+            BitSet updated = visited == null ? new BitSet() : (BitSet) visited.clone();
+            updated.set(ordinal);
+            return updated;
+        });
+    }
+
+    // 롤백된 방문이 인덱스에 남지 않도록 커밋 이후에 반영한다
+    public void markVisitedAfterCommit(String employeeId, String boothId) {
+        TransactionCallbacks.afterCommit(() -> markVisited(employeeId, boothId));
+    }
+}
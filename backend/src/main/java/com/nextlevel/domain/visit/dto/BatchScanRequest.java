@@ -0,0 +1,35 @@
+package com.nextlevel.domain.visit.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BatchScanRequest {
+
+    @NotEmpty(message = "스캔 항목이 필요합니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 전송할 수 있습니다.")
+    private List<@Valid Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Item {
+
+        // 스캐너가 스캔마다 생성하는 키, 재전송 시 같은 결과를 돌려받는다
+        @NotBlank(message = "멱등성 키가 필요합니다.")
+        @Size(max = 64, message = "멱등성 키는 64자 이하여야 합니다.")
+        private String idempotencyKey;
+
+        @NotBlank(message = "QR 토큰이 필요합니다.")
+        private String qrToken;
+
+        @NotBlank(message = "부스 ID가 필요합니다.")
+        private String boothId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nextlevel.domain.visit.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BatchScanResponse {
+
+    private int recorded;
+    private int duplicates;
+    private int failed;
+    private List<ItemResult> results;  // 요청 항목 순서와 같다
+
+    public enum Status {
+        RECORDED, DUPLICATE, FAILED
+    }
+
+    public static BatchScanResponse of(List<ItemResult> results) {
+        return BatchScanResponse.builder()
+                .recorded(count(results, Status.RECORDED))
+                .duplicates(count(results, Status.DUPLICATE))
+                .failed(count(results, Status.FAILED))
+                .results(results)
+                .build();
+    }
+
+    private static int count(List<ItemResult> results, Status status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+
+        private String idempotencyKey;
+        private Status status;
+        private String errorCode;
+        private String message;
+        private VisitResponse visit;  // RECORDED일 때만
+
+        public static ItemResult recorded(String idempotencyKey, VisitResponse visit) {
+            return ItemResult.builder().idempotencyKey(idempotencyKey).status(Status.RECORDED).visit(visit).build();
+        }
+
+        public static ItemResult duplicate(String idempotencyKey) {
+            return ItemResult.builder().idempotencyKey(idempotencyKey).status(Status.DUPLICATE)
+                    .errorCode("VISIT_DUPLICATE").message("이미 방문한 부스입니다.").build();
+        }
+
+        public static ItemResult failed(String idempotencyKey, String errorCode, String message) {
+            return ItemResult.builder().idempotencyKey(idempotencyKey).status(Status.FAILED)
+                    .errorCode(errorCode).message(message).build();
+        }
+    }
+}
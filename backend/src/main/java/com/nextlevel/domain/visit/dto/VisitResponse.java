@@ -1,6 +1,7 @@
 package com.nextlevel.domain.visit.dto;
 
 import com.nextlevel.domain.visit.BoothVisit;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션용
 public class VisitResponse {
 
     private Long visitId;
@@ -16,11 +18,12 @@ public class VisitResponse {
     private int pointsEarned;
     private LocalDateTime visitedAt;
 
-    public static VisitResponse of(BoothVisit visit) {
+    // 부스 프록시를 초기화하지 않도록 부스명을 따로 받는다
+    public static VisitResponse of(BoothVisit visit, String boothName) {
         return VisitResponse.builder()
                 .visitId(visit.getVisitId())
                 .boothId(visit.getBooth().getBoothId())
-                .boothName(visit.getBooth().getName())
+                .boothName(boothName)
                 .pointsEarned(visit.getPointsEarned())
                 .visitedAt(visit.getVisitedAt())
                 .build();
@@ -0,0 +1,11 @@
+package com.nextlevel.domain.visit.event;
+
+import com.nextlevel.domain.visit.dto.VisitResponse;
+
+/**
+ * 부스 방문이 기록됨.
+ *
+ * @param boothOwnerEmployeeId 부스 소유자 (없으면 null)
+ * @param visit                방문 결과 (방문자 QR 화면에 그대로 전달)
+ */
+public record VisitRecordedEvent(String employeeId, String boothOwnerEmployeeId, VisitResponse visit) {}
@@ -6,30 +6,33 @@ import com.nextlevel.domain.gacha.Goods;
 import com.nextlevel.domain.gacha.GoodsRepository;
 import com.nextlevel.domain.user.User;
 import com.nextlevel.domain.user.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DataInitializer implements ApplicationRunner {
+public class DataInitializer {
 
     private final UserRepository userRepository;
     private final BoothRepository boothRepository;
     private final GoodsRepository goodsRepository;
-
-    @Override
-    @Transactional
-    public void run(ApplicationArguments args) {
-        seedUsers();
-        seedBooths();
-        seedGoods();
+    private final TransactionTemplate transactionTemplate;
+
+    // 웹 서버가 요청을 받기 전에 넣는다
+    // 시드 데이터로 인메모리 상태를 적재하는 빈은 @DependsOn("dataInitializer")로 이 뒤에 초기화된다
+    @PostConstruct
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            seedUsers();
+            seedBooths();
+            seedGoods();
+        });
         log.info("✅ 초기 데이터 로드 완료");
     }
 
@@ -0,0 +1,181 @@
+package com.nextlevel.security;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 방문 QR용 압축 서명 토큰.
+ * JWT 대신 [버전 1B][만료 epoch초 4B][사번 길이 1B][사번 ASCII][HMAC-SHA256 앞 10B]를
+ * Base32(A-Z, 2-7, 패딩 없음)로 인코딩한다. 대문자·숫자만 쓰므로 QR 영숫자 모드로 작게 인코딩된다.
+ * 검증은 스레드별 버퍼와 Mac을 재사용해 입력 문자열 외에 할당 없이 처리한다 (결과 사번 문자열 제외).
+ * '.'을 포함하지 않으므로 JWT와 구분된다.
+ */
+final class CompactQrToken {
+
+    static final byte VERSION = 1;
+
+    private static final int MAC_LENGTH = 10;
+    private static final int MAX_ID_LENGTH = 32;
+    private static final int HEADER_LENGTH = 6;
+    private static final int MAX_LENGTH = HEADER_LENGTH + MAX_ID_LENGTH + MAC_LENGTH;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            DECODE_TABLE[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Mac> mac;
+    private final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[MAX_LENGTH]);
+    private final ThreadLocal<byte[]> digest = ThreadLocal.withInitial(() -> new byte[32]);
+    private final LongSupplier clock;
+
+    CompactQrToken(byte[] secret, LongSupplier clock) {
+        // 액세스 토큰 서명 키와 분리된 QR 전용 키를 파생한다
+        SecretKeySpec qrKey = new SecretKeySpec(
+                hmac(new SecretKeySpec(secret, "HmacSHA256"), "nextlevel-qr-v1".getBytes(StandardCharsets.US_ASCII)),
+                "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> newMac(qrKey));
+        this.clock = clock;
+    }
+
+    static boolean isCompact(String token) {
+        return token.indexOf('.') < 0;
+    }
+
+    String encode(String employeeId, long expiresAtMillis) {
+        int idLength = employeeId.length();
+        if (idLength == 0 || idLength > MAX_ID_LENGTH) {
+            throw new IllegalArgumentException("사번 길이가 올바르지 않습니다: " + employeeId);
+        }
+        byte[] bytes = new byte[HEADER_LENGTH + idLength + MAC_LENGTH];
+        bytes[0] = VERSION;
+        writeInt(bytes, 1, (int) (expiresAtMillis / 1000));
+        bytes[5] = (byte) idLength;
+        for (int i = 0; i < idLength; i++) {
+            char c = employeeId.charAt(i);
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("사번은 ASCII여야 합니다: " + employeeId);
+            }
+            bytes[HEADER_LENGTH + i] = (byte) c;
+        }
+        int signedLength = HEADER_LENGTH + idLength;
+        byte[] out = sign(bytes, signedLength);
+        System.arraycopy(out, 0, bytes, signedLength, MAC_LENGTH);
+        return base32(bytes);
+    }
+
+    /**
+     * 토큰을 검증하고 사번을 반환한다.
+     *
+     * @return 형식·서명이 올바르지 않거나 만료되었으면 null
+     */
+    String decode(String token) {
+        int chars = token.length();
+        int length = chars * 5 / 8;
+        if (length < HEADER_LENGTH + 1 + MAC_LENGTH || length > MAX_LENGTH
+                || (length * 8 + 4) / 5 != chars) {
+            return null;
+        }
+
+        byte[] bytes = buffer.get();
+        int bitBuffer = 0;
+        int bits = 0;
+        int index = 0;
+        for (int i = 0; i < chars; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) return null;
+            bitBuffer = (bitBuffer << 5) | value;
+            bits += 5;
+            if (bits >= 8) {
+                bits -= 8;
+                bytes[index++] = (byte) (bitBuffer >> bits);
+            }
+        }
+        // 남는 비트가 0이 아니면 정규 인코딩이 아니다
+        if ((bitBuffer & ((1 << bits) - 1)) != 0) return null;
+
+        int idLength = bytes[5] & 0xFF;
+        if (bytes[0] != VERSION || HEADER_LENGTH + idLength + MAC_LENGTH != length) return null;
+
+        int signedLength = HEADER_LENGTH + idLength;
+        byte[] expected = sign(bytes, signedLength);
+        int diff = 0;
+        for (int i = 0; i < MAC_LENGTH; i++) {
+            diff |= expected[i] ^ bytes[signedLength + i];
+        }
+        if (diff != 0) return null;
+
+        long expiresAtSeconds = readInt(bytes, 1) & 0xFFFFFFFFL;
+        if (expiresAtSeconds * 1000 <= clock.getAsLong()) return null;
+
+        return new String(bytes, HEADER_LENGTH, idLength, StandardCharsets.US_ASCII);
+    }
+
+    private byte[] sign(byte[] bytes, int length) {
+        Mac m = mac.get();
+        byte[] out = digest.get();
+        m.update(bytes, 0, length);
+        try {
+            m.doFinal(out, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        return out;
+    }
+
+    private static String base32(byte[] bytes) {
+        StringBuilder sb = new StringBuilder((bytes.length * 8 + 4) / 5);
+        int bitBuffer = 0;
+        int bits = 0;
+        for (byte b : bytes) {
+            bitBuffer = (bitBuffer << 8) | (b & 0xFF);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                sb.append(ALPHABET.charAt((bitBuffer >> bits) & 0x1F));
+            }
+        }
+        if (bits > 0) {
+            sb.append(ALPHABET.charAt((bitBuffer << (5 - bits)) & 0x1F));
+        }
+        return sb.toString();
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24
+                | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        return newMac(key).doFinal(data);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac m = Mac.getInstance("HmacSHA256");
+            m.init(key);
+            return m;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+}
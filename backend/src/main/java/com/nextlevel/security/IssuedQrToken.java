@@ -0,0 +1,8 @@
+package com.nextlevel.security;
+
+/**
+ * 발급된 QR 토큰과 토큰에 실제로 기록된 만료 시각.
+ *
+ * @param expiresAt 만료 시각 (epoch millis, 초 단위로 내림)
+ */
+public record IssuedQrToken(String token, long expiresAt) {}
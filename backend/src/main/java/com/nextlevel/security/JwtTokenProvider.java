@@ -1,7 +1,7 @@
 package com.nextlevel.security;
 
+import com.nextlevel.common.ExpiringCache;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,17 +9,28 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final long QR_EXPIRATION_MS = 600_000L; // 10분
+
     private final SecretKey key;
     private final long expirationMs;
+    // 파서는 스레드 안전하므로 한 번만 만들어 재사용한다
+    private final JwtParser parser;
+    // 검증된 액세스 토큰 → 인증 주체 (토큰 만료 또는 캐시 TTL 중 이른 시각까지 유지)
+    private final ExpiringCache<String, TokenPrincipal> verifiedTokens;
+    private final long cacheTtlMs;
+    private final CompactQrToken qrTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expirationMs) {
+            @Value("${jwt.expiration}") long expirationMs,
+            @Value("${jwt.cache.max-size}") int cacheMaxSize,
+            @Value("${jwt.cache.ttl-ms}") long cacheTtlMs) {
         byte[] keyBytes = secret.getBytes();
         // HMAC-SHA256 requires at least 256 bits (32 bytes)
         if (keyBytes.length < 32) {
@@ -27,6 +38,10 @@ public class JwtTokenProvider {
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = new ExpiringCache<>(cacheMaxSize);
+        this.cacheTtlMs = cacheTtlMs;
+        this.qrTokens = new CompactQrToken(keyBytes, System::currentTimeMillis);
     }
 
     public String generateToken(String employeeId, String role) {
@@ -42,47 +57,60 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getEmployeeId(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    public String getRole(String token) {
-        return parseClaims(token).get("role", String.class);
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 액세스 토큰을 한 번만 파싱·검증해 인증 주체를 반환한다.
+     * 같은 토큰의 반복 요청은 캐시에서 바로 응답해 서명 검증을 생략한다.
+     *
+     * @return 유효하지 않은 토큰(서명 오류, 만료, role 없는 QR 토큰 등)이면 empty
+     */
+    public Optional<TokenPrincipal> authenticate(String token) {
+        TokenPrincipal cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            String role = claims.get("role", String.class);
+            if (role == null) {
+                return Optional.empty();
+            }
+            TokenPrincipal principal = TokenPrincipal.of(claims.getSubject(), role);
+            long cacheUntil = Math.min(claims.getExpiration().getTime(), System.currentTimeMillis() + cacheTtlMs);
+            verifiedTokens.put(token, principal, cacheUntil);
+            return Optional.of(principal);
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    // QR용 단기 토큰 생성 (10분 만료)
+    // QR용 단기 토큰 생성 (10분 만료, 압축 토큰 형식)
     public String generateQrToken(String employeeId) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + 600_000L); // 10분
+        return issueQrToken(employeeId).token();
+    }
 
-        return Jwts.builder()
-                .subject(employeeId)
-                .claim("type", "QR")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(key)
-                .compact();
+    // 토큰은 만료 시각을 초 단위로 담으므로 응답에도 같은 값을 쓴다
+    public IssuedQrToken issueQrToken(String employeeId) {
+        long expiresAt = (System.currentTimeMillis() + QR_EXPIRATION_MS) / 1000 * 1000;
+        return new IssuedQrToken(qrTokens.encode(employeeId, expiresAt), expiresAt);
     }
 
+    /**
+     * QR 토큰을 검증하고 사번을 반환한다.
+     * 전환 기간 동안 압축 토큰과 기존 JWT QR 토큰을 모두 받는다.
+     */
     public String getQrEmployeeId(String qrToken) {
+        if (CompactQrToken.isCompact(qrToken)) {
+            String employeeId = qrTokens.decode(qrToken);
+            if (employeeId == null) {
+                throw new JwtException("Invalid QR token");
+            }
+            return employeeId;
+        }
         Claims claims = parseClaims(qrToken);
         if (!"QR".equals(claims.get("type", String.class))) {
             throw new JwtException("Not a QR token");
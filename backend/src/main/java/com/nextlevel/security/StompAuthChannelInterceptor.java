@@ -0,0 +1,52 @@
+package com.nextlevel.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더를 JWT로 인증한다.
+ * 인증된 세션의 Principal 이름은 사번이므로 convertAndSendToUser(employeeId, ...)로 보낼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) return message;
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            TokenPrincipal principal = jwtTokenProvider.authenticate(extractToken(accessor))
+                    .orElseThrow(() -> new MessagingException("유효하지 않은 인증 토큰입니다."));
+            accessor.setUser(new UsernamePasswordAuthenticationToken(
+                    principal.employeeId(), null, principal.authorities()));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            // 다른 사용자의 세션 큐(/queue/...-user{sessionId})를 직접 구독하지 못하게 한다
+            String destination = accessor.getDestination();
+            if (accessor.getUser() == null || destination == null || destination.startsWith("/queue/")) {
+                throw new MessagingException("구독할 수 없는 경로입니다: " + destination);
+            }
+        }
+        return message;
+    }
+
+    private String extractToken(StompHeaderAccessor accessor) {
+        String bearer = accessor.getFirstNativeHeader("Authorization");
+        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+        return "";
+    }
+}
@@ -0,0 +1,16 @@
+package com.nextlevel.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 검증된 액세스 토큰에서 꺼낸 인증 주체. 권한 목록은 생성 시 한 번만 만든다.
+ */
+public record TokenPrincipal(String employeeId, String role, List<GrantedAuthority> authorities) {
+
+    public static TokenPrincipal of(String employeeId, String role) {
+        return new TokenPrincipal(employeeId, role, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+}
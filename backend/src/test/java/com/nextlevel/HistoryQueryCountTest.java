@@ -0,0 +1,149 @@
+package com.nextlevel;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.evaluation.EvaluationService;
+import com.nextlevel.domain.evaluation.Review;
+import com.nextlevel.domain.evaluation.ReviewRepository;
+import com.nextlevel.domain.evaluation.dto.ReviewResponse;
+import com.nextlevel.domain.gacha.GachaAttempt;
+import com.nextlevel.domain.gacha.GachaAttemptRepository;
+import com.nextlevel.domain.gacha.GachaService;
+import com.nextlevel.domain.gacha.Goods;
+import com.nextlevel.domain.gacha.GoodsRepository;
+import com.nextlevel.domain.gacha.dto.GachaResultResponse;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.BoothVisit;
+import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.BoothVisitService;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * "내 기록" 조회가 행 수와 관계없이 한 번의 쿼리로 끝나는지 확인한다 (N+1 회귀 방지).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HistoryQueryCountTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoothRepository boothRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoothVisitRepository boothVisitRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private GoodsRepository goodsRepository;
+
+    @Autowired
+    private GachaAttemptRepository gachaAttemptRepository;
+
+    @Autowired
+    private BoothVisitService boothVisitService;
+
+    @Autowired
+    private EvaluationService evaluationService;
+
+    @Autowired
+    private GachaService gachaService;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void myVisitsLoadBoothNamesInOneQuery() {
+        User user = user("HIST-U1");
+        List<Booth> booths = booths("HIST-V");
+        booths.forEach(booth -> boothVisitRepository.save(BoothVisit.builder().booth(booth).user(user).build()));
+
+        List<VisitResponse> visits = countQueries(1, () -> boothVisitService.getMyVisits("HIST-U1"));
+        assertThat(visits).hasSize(ROWS);
+        assertThat(visits).extracting(VisitResponse::getBoothName).doesNotContainNull();
+
+        VisitResponse latest = countQueries(1, () -> boothVisitService.getLatestVisit("HIST-U1"));
+        assertThat(latest.getVisitId()).isEqualTo(visits.get(0).getVisitId());
+    }
+
+    @Test
+    void myReviewsLoadBoothNamesInOneQuery() {
+        User user = user("HIST-U2");
+        booths("HIST-R").forEach(booth -> reviewRepository.save(
+                Review.builder().booth(booth).user(user).content(booth.getBoothId() + " 리뷰").build()));
+
+        List<ReviewResponse> reviews = countQueries(1, () -> evaluationService.getMyReviews("HIST-U2"));
+        assertThat(reviews).hasSize(ROWS);
+        assertThat(reviews).extracting(ReviewResponse::getBoothName).doesNotContainNull();
+    }
+
+    @Test
+    void gachaHistoryLoadsGoodsInOneQuery() {
+        User user = user("HIST-U3");
+        IntStream.rangeClosed(1, ROWS).forEach(i -> {
+            Goods goods = goodsRepository.save(Goods.builder()
+                    .goodsId("HIST-G" + i).name("HIST-G" + i)
+                    .totalStock(10).remainingStock(10).unitPrice(40).build());
+            gachaAttemptRepository.save(GachaAttempt.builder()
+                    .user(user).goods(goods).attemptNumber(i).build());
+        });
+        // 잔액은 첫 조회 후 메모리에서 응답하므로 미리 적재해 둔다
+        pointLedgerService.getBalance("HIST-U3");
+
+        List<GachaResultResponse> history = countQueries(1, () -> gachaService.getHistory("HIST-U3"));
+        assertThat(history).hasSize(ROWS);
+        assertThat(history).extracting(GachaResultResponse::getGoodsName).doesNotContainNull();
+    }
+
+    private <T> T countQueries(int expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getEntityFetchCount()).as("지연 로딩 횟수").isZero();
+        assertThat(statistics.getPrepareStatementCount()).as("실행한 SQL 수").isEqualTo(expected);
+        return result;
+    }
+
+    private User user(String employeeId) {
+        return userRepository.save(User.builder().employeeId(employeeId).name(employeeId).build());
+    }
+
+    private List<Booth> booths(String prefix) {
+        return boothRepository.saveAll(IntStream.rangeClosed(1, ROWS)
+                .mapToObj(i -> Booth.builder()
+                        .boothId(prefix + i).name(prefix + i).shortDescription("기록 조회 테스트 부스")
+                        .zone("LOAD").floor("1F").build())
+                .toList());
+    }
+}
@@ -0,0 +1,111 @@
+package com.nextlevel.domain.admin;
+
+import com.nextlevel.domain.admin.dto.DashboardResponse;
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothCatalog;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.evaluation.EvaluationRepository;
+import com.nextlevel.domain.evaluation.event.EvaluationSubmittedEvent;
+import com.nextlevel.domain.gacha.GachaAttemptRepository;
+import com.nextlevel.domain.gacha.event.GachaAttemptedEvent;
+import com.nextlevel.domain.point.PointLedgerRepository;
+import com.nextlevel.domain.point.event.PointBalanceChangedEvent;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardCountersTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BoothVisitRepository boothVisitRepository = mock(BoothVisitRepository.class);
+    private final EvaluationRepository evaluationRepository = mock(EvaluationRepository.class);
+    private final GachaAttemptRepository gachaAttemptRepository = mock(GachaAttemptRepository.class);
+    private final PointLedgerRepository pointLedgerRepository = mock(PointLedgerRepository.class);
+    private final DashboardCounters counters = new DashboardCounters(userRepository, boothVisitRepository,
+            evaluationRepository, gachaAttemptRepository, pointLedgerRepository, catalog());
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.count()).thenReturn(120L);
+        when(evaluationRepository.count()).thenReturn(7L);
+        when(gachaAttemptRepository.count()).thenReturn(3L);
+        when(pointLedgerRepository.sumCredited()).thenReturn(500L);
+        when(boothVisitRepository.countGroupByZone()).thenReturn(List.of(
+                new Object[]{"A", 30L}, new Object[]{"B", 20L}));
+        counters.loadOnStartup();
+    }
+
+    @Test
+    void loadsDatabaseTotalsAtStartup() {
+        DashboardResponse dashboard = counters.snapshot();
+
+        assertThat(dashboard.getTotalUsers()).isEqualTo(120);
+        assertThat(dashboard.getTotalBooths()).isEqualTo(3);
+        assertThat(dashboard.getTotalVisits()).isEqualTo(50);
+        assertThat(dashboard.getTotalEvaluations()).isEqualTo(7);
+        assertThat(dashboard.getGoodsSold()).isEqualTo(3);
+        assertThat(dashboard.getPointsIssued()).isEqualTo(500);
+        assertThat(dashboard.getZoneVisits()).containsExactly(Map.entry("A", 30L), Map.entry("B", 20L));
+    }
+
+    @Test
+    void committedWriteEventsIncrementTheCounters() {
+        counters.onVisitRecorded(visit("B3"));
+        counters.onVisitRecorded(visit("B1"));
+        counters.onEvaluationSubmitted(new EvaluationSubmittedEvent("U1", "B1"));
+        counters.onGachaAttempted(new GachaAttemptedEvent("U1", 1));
+        counters.onPointBalanceChanged(new PointBalanceChangedEvent(List.of("U1", "U2"), 20));
+
+        DashboardResponse dashboard = counters.snapshot();
+
+        assertThat(dashboard.getTotalVisits()).isEqualTo(52);
+        assertThat(dashboard.getZoneVisits()).containsExactly(Map.entry("A", 31L), Map.entry("B", 21L));
+        assertThat(dashboard.getTotalEvaluations()).isEqualTo(8);
+        assertThat(dashboard.getGoodsSold()).isEqualTo(4);
+        assertThat(dashboard.getPointsIssued()).isEqualTo(520);
+    }
+
+    @Test
+    void debitsChangeNeitherIssuedPointsNorTheVersion() {
+        long version = counters.version();
+
+        counters.onPointBalanceChanged(new PointBalanceChangedEvent(List.of("U1"), 0));
+
+        assertThat(counters.version()).isEqualTo(version);
+        assertThat(counters.snapshot().getPointsIssued()).isEqualTo(500);
+
+        counters.onGachaAttempted(new GachaAttemptedEvent("U1", 1));
+        assertThat(counters.version()).isGreaterThan(version);
+    }
+
+    private VisitRecordedEvent visit(String boothId) {
+        return new VisitRecordedEvent("U1", null, VisitResponse.builder().boothId(boothId).build());
+    }
+
+    private static BoothCatalog catalog() {
+        BoothRepository repository = mock(BoothRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                booth("B1", "A"), booth("B2", "A"), booth("B3", "B")));
+        return new BoothCatalog(repository);
+    }
+
+    private static Booth booth(String boothId, String zone) {
+        return Booth.builder()
+                .boothId(boothId)
+                .name(boothId)
+                .shortDescription("대시보드 테스트 부스")
+                .zone(zone)
+                .floor("1F")
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.nextlevel.domain.booth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoothCatalogTest {
+
+    @Test
+    void reusesTheSameSnapshotUntilInvalidated() {
+        BoothRepository repository = mock(BoothRepository.class);
+        when(repository.findAll()).thenReturn(List.of(booth("B2", "A", "2F"), booth("B1", "A", "1F")));
+        BoothCatalog catalog = new BoothCatalog(repository);
+
+        BoothCatalog.Snapshot first = catalog.snapshot();
+        assertThat(catalog.snapshot()).isSameAs(first);
+        verify(repository, times(1)).findAll();
+
+        assertThat(first.all()).extracting(BoothCatalog.Entry::boothId).containsExactly("B1", "B2");
+        assertThat(first.zone("A")).extracting(BoothCatalog.Entry::boothId).containsExactly("B1", "B2");
+        assertThat(first.floor("2F")).extracting(BoothCatalog.Entry::boothId).containsExactly("B2");
+        assertThat(first.zone("Z")).isEmpty();
+        assertThat(first.get("B1").floor()).isEqualTo("1F");
+        assertThatThrownBy(() -> first.all().add(first.get("B1")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void rebuildsOnTheNextReadAfterInvalidation() {
+        BoothRepository repository = mock(BoothRepository.class);
+        when(repository.findAll())
+                .thenReturn(List.of(booth("B1", "A", "1F")))
+                .thenReturn(List.of(booth("B1", "B", "1F"), booth("B3", "B", "3F")));
+        BoothCatalog catalog = new BoothCatalog(repository);
+
+        BoothCatalog.Snapshot before = catalog.snapshot();
+        catalog.invalidate();
+        BoothCatalog.Snapshot after = catalog.snapshot();
+
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.zone("A")).isEmpty();
+        assertThat(after.zone("B")).extracting(BoothCatalog.Entry::boothId).containsExactly("B1", "B3");
+        verify(repository, times(2)).findAll();
+    }
+
+    private Booth booth(String boothId, String zone, String floor) {
+        return Booth.builder()
+                .boothId(boothId)
+                .name(boothId)
+                .shortDescription("카탈로그 테스트 부스")
+                .zone(zone)
+                .floor(floor)
+                .build();
+    }
+}
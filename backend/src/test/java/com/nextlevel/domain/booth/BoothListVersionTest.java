@@ -0,0 +1,70 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.domain.evaluation.EvaluationRepository;
+import com.nextlevel.domain.visit.BoothVisitRepository;
+import com.nextlevel.domain.visit.VisitedBoothIndex;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoothListVersionTest {
+
+    private final BoothRepository boothRepository = mock(BoothRepository.class);
+    private final BoothCatalog boothCatalog = new BoothCatalog(boothRepository);
+    private final VisitedBoothIndex visitedBoothIndex = new VisitedBoothIndex(mock(BoothVisitRepository.class));
+    private final BoothVisitorCounter boothVisitorCounter = new BoothVisitorCounter(boothRepository,
+            mock(JdbcTemplate.class), mock(ApplicationEventPublisher.class), mock(TransactionTemplate.class));
+    private final BoothService boothService = new BoothService(boothCatalog, mock(BoothSearchIndex.class),
+            visitedBoothIndex, boothVisitorCounter, mock(EvaluationRepository.class));
+
+    @Test
+    void listVersionChangesWhenAnyPartOfTheListCanChange() {
+        when(boothRepository.findAll()).thenReturn(List.of(
+                Booth.builder().boothId("B1").name("B1").zone("A").floor("1F").build()));
+
+        String initial = boothService.listVersion("U1");
+        assertThat(boothService.listVersion("U1")).isEqualTo(initial);
+        assertThat(boothService.listVersion("U2")).isNotEqualTo(initial);
+
+        boothVisitorCounter.onVisitRecorded(new VisitRecordedEvent("U2", null,
+                VisitResponse.builder().boothId("B1").build()));
+        String afterVisit = boothService.listVersion("U1");
+        assertThat(afterVisit).isNotEqualTo(initial);
+
+        visitedBoothIndex.markVisited("U1", "B1");
+        String afterOwnVisit = boothService.listVersion("U1");
+        assertThat(afterOwnVisit).isNotEqualTo(afterVisit);
+
+        boothCatalog.invalidate();
+        assertThat(boothService.listVersion("U1")).isNotEqualTo(afterOwnVisit);
+    }
+
+    @Test
+    void notModifiedListIsNotBuilt() {
+        BoothService service = mock(BoothService.class);
+        when(service.listVersion("U1")).thenReturn("v1");
+        BoothController controller = new BoothController(service);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/booths");
+        request.addHeader("If-None-Match", "W/\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(controller.getAllBooths("U1", new ServletWebRequest(request, response))).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(service, never()).getAllBooths("U1");
+    }
+}
@@ -0,0 +1,72 @@
+package com.nextlevel.domain.booth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoothSearchIndexTest {
+
+    private final BoothRepository repository = mock(BoothRepository.class);
+    private final BoothCatalog catalog = new BoothCatalog(repository);
+    private final BoothSearchIndex index = new BoothSearchIndex(catalog);
+
+    @Test
+    void findsBySubstringAndByThePrefixBeingTyped() {
+        when(repository.findAll()).thenReturn(booths());
+
+        assertThat(ids("클라우드")).containsExactly("B1", "B3");
+        assertThat(ids("클")).containsExactly("B1", "B3");
+        assertThat(ids("클라ㅇ")).containsExactly("B1", "B3");
+        assertThat(ids("쿠버")).containsExactly("B1");
+        assertThat(ids("ai")).containsExactly("B2");
+        assertThat(ids("없는검색어")).isEmpty();
+        assertThat(ids("  ")).isEmpty();
+    }
+
+    @Test
+    void nameMatchesRankAboveDescriptionOnlyMatches() {
+        when(repository.findAll()).thenReturn(booths());
+
+        assertThat(ids("데이터 플랫폼")).containsExactly("B3", "B1");
+        assertThat(index.search("클라우드", 1)).extracting(BoothCatalog.Entry::boothId).containsExactly("B1");
+    }
+
+    @Test
+    void rebuildsTheIndexWhenTheCatalogChanges() {
+        when(repository.findAll())
+                .thenReturn(booths())
+                .thenReturn(List.of(booth("B9", "클라우드 보안", "제로 트러스트", null, null)));
+
+        assertThat(ids("보안")).isEmpty();
+        catalog.invalidate();
+        assertThat(ids("보안")).containsExactly("B9");
+    }
+
+    private List<String> ids(String query) {
+        return index.search(query, 10).stream().map(BoothCatalog.Entry::boothId).toList();
+    }
+
+    private static List<Booth> booths() {
+        return List.of(
+                booth("B1", "클라우드 네이티브 전환", "MSA로 클라우드 전환", "쿠버네티스 기반 플랫폼 구축 사례", "도전"),
+                booth("B2", "AI 챗봇 상담", "생성형 AI 고객 상담", "대규모 언어 모델로 상담 자동화", "혁신"),
+                booth("B3", "데이터 플랫폼", "실시간 데이터 파이프라인", "클라우드 데이터 레이크", "협업"));
+    }
+
+    private static Booth booth(String boothId, String name, String shortDescription,
+                               String longDescription, String onlyoneValue) {
+        return Booth.builder()
+                .boothId(boothId)
+                .name(name)
+                .shortDescription(shortDescription)
+                .longDescription(longDescription)
+                .onlyoneValue(onlyoneValue)
+                .zone("A")
+                .floor("1F")
+                .build();
+    }
+}
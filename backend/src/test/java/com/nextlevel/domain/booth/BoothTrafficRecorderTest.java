@@ -0,0 +1,105 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.domain.booth.dto.BoothTraffic;
+import com.nextlevel.domain.booth.dto.TrafficWindowResponse;
+import com.nextlevel.domain.booth.dto.TrendingBooth;
+import com.nextlevel.domain.booth.dto.ZoneTraffic;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoothTrafficRecorderTest {
+
+    private static final long MINUTE_MS = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000 * MINUTE_MS);
+    private final BoothTrafficRecorder recorder = new BoothTrafficRecorder(catalog(), now::get);
+
+    @Test
+    void returnsPerMinuteVisitsForEachBoothOverTheLastMinutes() {
+        record("B1", 3);
+        now.addAndGet(MINUTE_MS);
+        record("B1", 1);
+        record("B2", 2);
+
+        TrafficWindowResponse<BoothTraffic> traffic = recorder.booths(3);
+
+        assertThat(traffic.minutes()).isEqualTo(3);
+        assertThat(traffic.series()).extracting(BoothTraffic::boothId).containsExactly("B1", "B2", "B3");
+        assertThat(traffic.series().get(0).perMinute()).containsExactly(0L, 3L, 1L);
+        assertThat(traffic.series().get(0).total()).isEqualTo(4);
+        assertThat(traffic.series().get(2).perMinute()).containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    void slotFromAPreviousLapReadsAsZeroAndIsReused() {
+        record("B1", 5);
+        now.addAndGet(BoothTrafficRecorder.WINDOW_MINUTES * MINUTE_MS);
+
+        assertThat(recorder.booths(60).series().get(0).total()).isZero();
+
+        record("B1", 2);
+        assertThat(recorder.booths(1).series().get(0).perMinute()).containsExactly(2L);
+    }
+
+    @Test
+    void sumsBoothVisitsPerZone() {
+        record("B1", 2);
+        record("B2", 3);
+        record("B3", 4);
+
+        List<ZoneTraffic> zones = recorder.zones(1).series();
+
+        assertThat(zones).extracting(ZoneTraffic::zone).containsExactly("A", "B");
+        assertThat(zones.get(0).total()).isEqualTo(5);
+        assertThat(zones.get(0).boothCount()).isEqualTo(2);
+        assertThat(zones.get(1).total()).isEqualTo(4);
+    }
+
+    @Test
+    void boothsWhoseRecentRateRoseMostOverTheBaselineComeFirst() {
+        // B1: 꾸준히 분당 2명, B2: 최근에만 몰림, B3: 최근 방문 없음
+        for (int minute = 0; minute < 35; minute++) {
+            record("B1", 2);
+            if (minute >= 30) record("B2", 3);
+            if (minute < 30) record("B3", 1);
+            now.addAndGet(MINUTE_MS);
+        }
+        now.addAndGet(-MINUTE_MS);
+
+        List<TrendingBooth> trending = recorder.trending(10);
+
+        assertThat(trending).extracting(TrendingBooth::boothId).containsExactly("B2", "B1");
+        assertThat(trending.get(0).recentPerMinute()).isEqualTo(3.0);
+        assertThat(trending.get(0).baselinePerMinute()).isZero();
+        assertThat(trending.get(1).lift()).isEqualTo(1.0);
+    }
+
+    private void record(String boothId, int visits) {
+        for (int i = 0; i < visits; i++) {
+            recorder.record(boothId);
+        }
+    }
+
+    private static BoothCatalog catalog() {
+        BoothRepository repository = mock(BoothRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                booth("B1", "A"), booth("B2", "A"), booth("B3", "B")));
+        return new BoothCatalog(repository);
+    }
+
+    private static Booth booth(String boothId, String zone) {
+        return Booth.builder()
+                .boothId(boothId)
+                .name(boothId)
+                .shortDescription("방문 추이 테스트 부스")
+                .zone(zone)
+                .floor("1F")
+                .build();
+    }
+}
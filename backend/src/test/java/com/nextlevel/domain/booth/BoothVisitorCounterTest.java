@@ -0,0 +1,107 @@
+package com.nextlevel.domain.booth;
+
+import com.nextlevel.domain.booth.event.BoothVisitorMilestoneEvent;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoothVisitorCounterTest {
+
+    private final BoothRepository boothRepository = mock(BoothRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BoothVisitorCounter counter = new BoothVisitorCounter(boothRepository, jdbcTemplate, eventPublisher,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    private final Queue<Integer> milestones = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void concurrentVisitsPublishEveryMilestoneExactlyOnce() throws Exception {
+        when(boothRepository.findAllVisitorCounts()).thenReturn(List.<Object[]>of(new Object[]{"B1", 25}));
+        counter.reconcile();
+        doAnswer(invocation -> milestones.add(invocation.<BoothVisitorMilestoneEvent>getArgument(0).visitorCount()))
+                .when(eventPublisher).publishEvent(any(BoothVisitorMilestoneEvent.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int visit = 0; visit < 100; visit++) {
+                    counter.onVisitRecorded(visit("B1"));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(counter.get("B1")).isEqualTo(1625);
+        // 시작 값 25는 20을 넘긴 상태로 적재되므로 30부터, 미션3이 기다리는 30·70도 한 번씩
+        assertThat(milestones).containsExactlyInAnyOrderElementsOf(
+                IntStream.iterate(30, count -> count <= 1620, count -> count + BoothVisitorCounter.MILESTONE_STEP)
+                        .boxed().toList());
+    }
+
+    @Test
+    void rolledBackFlushSendsTheSameDeltaAgain() {
+        List<Object[]> flushed = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("lock timeout"))
+                .thenAnswer(invocation -> {
+                    flushed.addAll(invocation.<List<Object[]>>getArgument(1));
+                    return new int[]{1};
+                });
+        for (int visit = 0; visit < 3; visit++) {
+            counter.onVisitRecorded(visit("B1"));
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatThrownBy(counter::flush).isInstanceOf(QueryTimeoutException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        counter.onVisitRecorded(visit("B1"));
+        counter.flush();
+        counter.flush();
+
+        assertThat(flushed).containsExactly(new Object[]{4L, "B1"});
+        assertThat(counter.get("B1")).isEqualTo(4);
+    }
+
+    private VisitRecordedEvent visit(String boothId) {
+        return new VisitRecordedEvent("U1", "OWNER", VisitResponse.builder().boothId(boothId).build());
+    }
+}
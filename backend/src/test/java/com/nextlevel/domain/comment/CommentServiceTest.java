@@ -0,0 +1,99 @@
+package com.nextlevel.domain.comment;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.comment.dto.CommentPageResponse;
+import com.nextlevel.domain.comment.dto.CommentRequest;
+import com.nextlevel.domain.comment.dto.CommentResponse;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoothRepository boothRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void followingTheCursorReturnsEveryCommentOnceNewestFirst() {
+        setUp("PAGE-B1", "PAGE-U1");
+        List<Long> written = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            written.add(0, commentService.addComment("PAGE-B1", "PAGE-U1", request("제안 " + i)).getCommentId());
+        }
+
+        CommentPageResponse first = commentService.getComments("PAGE-B1", null, 20);
+        assertThat(first.totalCount()).isEqualTo(45);
+        assertThat(first.comments()).extracting(CommentResponse::getAuthorName).containsOnly("PAGE-U1 이름");
+
+        List<Long> read = new ArrayList<>(first.comments().stream().map(CommentResponse::getCommentId).toList());
+        String cursor = first.nextCursor();
+        int pages = 1;
+        while (cursor != null) {
+            CommentPageResponse page = commentService.getComments("PAGE-B1", cursor, 20);
+            assertThat(page.totalCount()).isNull();
+            page.comments().forEach(comment -> read.add(comment.getCommentId()));
+            cursor = page.nextCursor();
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(read).containsExactlyElementsOf(written);
+    }
+
+    @Test
+    void addingACommentEvictsTheCachedFirstPage() {
+        setUp("PAGE-B2", "PAGE-U2");
+        commentService.addComment("PAGE-B2", "PAGE-U2", request("첫 제안"));
+
+        CommentPageResponse cached = commentService.getComments("PAGE-B2", null, 20);
+        assertThat(commentService.getComments("PAGE-B2", null, 20)).isSameAs(cached);
+
+        commentService.addComment("PAGE-B2", "PAGE-U2", request("두 번째 제안"));
+
+        CommentPageResponse refreshed = commentService.getComments("PAGE-B2", null, 20);
+        assertThat(refreshed.totalCount()).isEqualTo(2);
+        assertThat(refreshed.comments().get(0).getSuggestion()).isEqualTo("두 번째 제안");
+        assertThat(refreshed.nextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsAMalformedCursor() {
+        assertThatThrownBy(() -> commentService.getComments("PAGE-B1", "not-a-cursor!", 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("COMMENT_CURSOR_INVALID");
+    }
+
+    private void setUp(String boothId, String employeeId) {
+        boothRepository.save(Booth.builder()
+                .boothId(boothId).name(boothId).shortDescription("댓글 테스트 부스")
+                .zone("LOAD").floor("1F").build());
+        userRepository.save(User.builder().employeeId(employeeId).name(employeeId + " 이름").build());
+    }
+
+    private CommentRequest request(String suggestion) {
+        CommentRequest request = new CommentRequest();
+        ReflectionTestUtils.setField(request, "suggestion", suggestion);
+        ReflectionTestUtils.setField(request, "expectedEffect", "기대 효과");
+        return request;
+    }
+}
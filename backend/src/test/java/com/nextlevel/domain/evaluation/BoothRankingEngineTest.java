@@ -0,0 +1,83 @@
+package com.nextlevel.domain.evaluation;
+
+import com.nextlevel.domain.evaluation.dto.BoothVotes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoothRankingEngineTest {
+
+    @Test
+    void incrementalUpdatesMatchAFullRecompute() {
+        SplittableRandom random = new SplittableRandom(20241018L);
+        List<Object[]> ballots = new ArrayList<>();
+        for (long evalId = 1; evalId <= 2000; evalId++) {
+            ballots.add(new Object[]{
+                    evalId,
+                    "E" + random.nextInt(150),
+                    "BOOTH-" + random.nextInt(12),
+                    random.nextInt(6, 31)
+            });
+        }
+
+        EvaluationRepository repository = mock(EvaluationRepository.class);
+        when(repository.findAllBallots()).thenReturn(List.of());
+        BoothRankingEngine incremental = new BoothRankingEngine(repository);
+        incremental.rebuild();
+        ballots.forEach(row -> incremental.record(
+                (String) row[1], (Long) row[0], (String) row[2], (Integer) row[3]));
+
+        EvaluationRepository loaded = mock(EvaluationRepository.class);
+        when(loaded.findAllBallots()).thenReturn(ballots);
+        BoothRankingEngine rebuilt = new BoothRankingEngine(loaded);
+        rebuilt.rebuild();
+
+        List<BoothVotes> expected = bruteForceRanking(ballots);
+        assertThat(incremental.top(100)).containsExactlyElementsOf(expected);
+        assertThat(rebuilt.top(100)).containsExactlyElementsOf(expected);
+        assertThat(incremental.top(3)).containsExactlyElementsOf(expected.subList(0, 3));
+    }
+
+    @Test
+    void latestReviewWinsATieOnTotalScore() {
+        EvaluationRepository repository = mock(EvaluationRepository.class);
+        when(repository.findAllBallots()).thenReturn(List.of());
+        BoothRankingEngine engine = new BoothRankingEngine(repository);
+        engine.rebuild();
+
+        engine.record("E001", 1L, "BOOTH-01", 20);
+        engine.record("E001", 2L, "BOOTH-02", 20);
+        engine.record("E001", 3L, "BOOTH-03", 15);
+
+        assertThat(engine.top(10)).containsExactly(new BoothVotes("BOOTH-02", 1));
+    }
+
+    // findBoothRanking과 같은 기준: 사용자별 최고 총점, 동점이면 최대 evalId
+    private List<BoothVotes> bruteForceRanking(List<Object[]> ballots) {
+        Map<String, Object[]> best = new HashMap<>();
+        for (Object[] row : ballots) {
+            best.merge((String) row[1], row, (a, b) -> {
+                int scoreA = (Integer) a[3];
+                int scoreB = (Integer) b[3];
+                if (scoreA != scoreB) return scoreA > scoreB ? a : b;
+                return (Long) a[0] > (Long) b[0] ? a : b;
+            });
+        }
+        Map<String, Integer> votes = new HashMap<>();
+        best.values().forEach(row -> votes.merge((String) row[2], 1, Integer::sum));
+        return votes.entrySet().stream()
+                .map(e -> new BoothVotes(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingInt(BoothVotes::voteCount).reversed()
+                        .thenComparing(BoothVotes::boothId))
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.nextlevel.domain.gacha;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AliasSamplerTest {
+
+    private static final int SAMPLES = 400_000;
+    // 카이제곱 임계값 (유의수준 0.001, 자유도 3)
+    private static final double CHI_SQUARE_CRITICAL_DF3 = 16.266;
+
+    @Test
+    void observedDistributionMatchesWeights() {
+        List<String> ids = List.of("GOODS-01", "GOODS-02", "GOODS-03", "GOODS-04");
+        double[] weights = {1, 2, 3, 4};
+
+        Map<String, Integer> observed = draw(new AliasSampler(ids, weights), SAMPLES);
+
+        assertThat(chiSquare(ids, weights, observed)).isLessThan(CHI_SQUARE_CRITICAL_DF3);
+    }
+
+    @Test
+    void stockWeightedDistributionMatchesRemainingStock() {
+        List<String> ids = List.of("GOODS-01", "GOODS-02", "GOODS-03", "GOODS-04");
+        double[] weights = {150, 3, 97, 41};
+
+        Map<String, Integer> observed = draw(new AliasSampler(ids, weights), SAMPLES);
+
+        assertThat(chiSquare(ids, weights, observed)).isLessThan(CHI_SQUARE_CRITICAL_DF3);
+    }
+
+    @Test
+    void zeroWeightItemsAreNeverDrawn() {
+        AliasSampler sampler = new AliasSampler(List.of("SOLD-OUT", "GOODS-02", "GOODS-03"), new double[]{0, 1, 1});
+
+        assertThat(draw(sampler, 10_000)).doesNotContainKey("SOLD-OUT");
+        assertThat(new AliasSampler(List.of("SOLD-OUT"), new double[]{0}).isEmpty()).isTrue();
+    }
+
+    private Map<String, Integer> draw(AliasSampler sampler, int samples) {
+        SplittableRandom random = new SplittableRandom(20241018L);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            counts.merge(sampler.sample(random), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private double chiSquare(List<String> ids, double[] weights, Map<String, Integer> observed) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double statistic = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            double expected = SAMPLES * weights[i] / total;
+            double diff = observed.getOrDefault(ids.get(i), 0) - expected;
+            statistic += diff * diff / expected;
+        }
+        return statistic;
+    }
+}
@@ -0,0 +1,202 @@
+package com.nextlevel.domain.gacha;
+
+import com.nextlevel.domain.point.PointLedgerEntry;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.exception.BusinessException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가챠 동시성 스트레스 테스트. (./gradlew stressTest)
+ * 여러 사용자가 동시에 여러 번 탭하는 상황을 H2(MySQL 모드)에서 재현하고 불변식을 검사한 뒤
+ * 처리량과 지연 분포(p50/p99)를 출력한다. 시드 굿즈 재고(600개)보다 많은 당첨을 시도해 품절 경계도 지난다.
+ *
+ * <ul>
+ *   <li>굿즈별 재고 감소량 = 굿즈별 가챠 기록 수, 재고는 음수가 되지 않음</li>
+ *   <li>사용자별 도전 횟수 ≤ 최대 횟수, 회차 번호는 1부터 빠짐없이 한 번씩</li>
+ *   <li>사용자별 잔액 = 시작 포인트 − 비용 × 도전 횟수 ≥ 0 (이중 차감 없음)</li>
+ * </ul>
+ */
+@Tag("stress")
+@SpringBootTest
+@ActiveProfiles("test")
+class GachaStressTest {
+
+    private static final int USERS = 400;
+    private static final int TAPS_PER_USER = 4;
+    private static final int THREADS = 48;
+    private static final int GACHA_COST = 40;
+    private static final int MAX_ATTEMPTS = 2;
+    private static final int STARTING_POINTS = GACHA_COST * MAX_ATTEMPTS + 20;
+    private static final Set<String> EXPECTED_ERRORS = Set.of(
+            "GACHA_MAX_REACHED", "POINT_INSUFFICIENT", "GOODS_OUT_OF_STOCK", "GACHA_CONCURRENT_ATTEMPT");
+
+    @Autowired
+    private GachaService gachaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private GoodsStockAllocator goodsStockAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentPullsNeverOversellOrDoubleSpend() throws Exception {
+        List<String> employeeIds = IntStream.rangeClosed(1, USERS)
+                .mapToObj(i -> String.format("STRESS-U%04d", i)).toList();
+        userRepository.saveAll(employeeIds.stream()
+                .map(id -> User.builder().employeeId(id).name(id).build()).toList());
+        employeeIds.forEach(id -> pointLedgerService.credit(id, STARTING_POINTS, PointLedgerEntry.Reason.VISIT));
+
+        goodsStockAllocator.flush();
+        Map<String, Integer> stockBefore = remainingStock();
+        Map<String, Integer> attemptsBefore = attemptsByGoods();
+
+        List<String> pulls = new ArrayList<>();
+        employeeIds.forEach(id -> pulls.addAll(Collections.nCopies(TAPS_PER_USER, id)));
+        Collections.shuffle(pulls);
+
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        long[] latencies = new long[pulls.size()];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < pulls.size(); i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                String outcome;
+                try {
+                    gachaService.attempt(pulls.get(index));
+                    outcome = "SUCCESS";
+                } catch (BusinessException e) {
+                    outcome = e.getErrorCode();
+                }
+                latencies[index] = System.nanoTime() - begin;
+                outcomes.computeIfAbsent(outcome, k -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }));
+        }
+        long wallStart = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long wallNs = System.nanoTime() - wallStart;
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        goodsStockAllocator.flush();
+        Map<String, Integer> stockAfter = remainingStock();
+        Map<String, Integer> attemptsAfter = attemptsByGoods();
+        report(pulls.size(), wallNs, latencies, outcomes, stockBefore, stockAfter);
+
+        // 예상한 거절 사유 외의 실패가 없어야 한다
+        assertThat(outcomes.keySet()).allMatch(outcome -> outcome.equals("SUCCESS") || EXPECTED_ERRORS.contains(outcome));
+        int successes = outcomes.getOrDefault("SUCCESS", new AtomicInteger()).get();
+
+        // 재고: 감소량 = 기록 수, 음수 없음, 메모리 재고와 DB 일치
+        int soldTotal = 0;
+        for (String goodsId : stockBefore.keySet()) {
+            int sold = stockBefore.get(goodsId) - stockAfter.get(goodsId);
+            int recorded = attemptsAfter.getOrDefault(goodsId, 0) - attemptsBefore.getOrDefault(goodsId, 0);
+            assertThat(sold).as("%s 재고 감소량", goodsId).isEqualTo(recorded);
+            assertThat(stockAfter.get(goodsId)).as("%s 남은 재고", goodsId).isNotNegative();
+            soldTotal += sold;
+        }
+        assertThat(soldTotal).isEqualTo(successes);
+        assertThat(goodsStockAllocator.stockSnapshot()).containsAllEntriesOf(stockAfter);
+
+        // 사용자: 최대 횟수 이하, 회차 중복·누락 없음, 잔액 = 시작 − 비용 × 횟수
+        List<Map<String, Object>> perUser = jdbcTemplate.queryForList("""
+                SELECT employee_id, COUNT(*) AS attempts, COUNT(DISTINCT attempt_number) AS numbers,
+                       MAX(attempt_number) AS last_number
+                FROM gacha_attempts WHERE employee_id LIKE 'STRESS-%' GROUP BY employee_id
+                """);
+        int recordedTotal = 0;
+        Map<String, Integer> attemptsByUser = new TreeMap<>();
+        for (Map<String, Object> row : perUser) {
+            int attempts = ((Number) row.get("attempts")).intValue();
+            assertThat(attempts).isLessThanOrEqualTo(MAX_ATTEMPTS);
+            assertThat(((Number) row.get("numbers")).intValue()).isEqualTo(attempts);
+            assertThat(((Number) row.get("last_number")).intValue()).isEqualTo(attempts);
+            attemptsByUser.put((String) row.get("employee_id"), attempts);
+            recordedTotal += attempts;
+        }
+        assertThat(recordedTotal).isEqualTo(successes);
+        for (String employeeId : employeeIds) {
+            int expected = STARTING_POINTS - GACHA_COST * attemptsByUser.getOrDefault(employeeId, 0);
+            assertThat(pointLedgerService.getBalance(employeeId)).as("%s 잔액", employeeId)
+                    .isEqualTo(expected)
+                    .isNotNegative();
+        }
+    }
+
+    private Map<String, Integer> remainingStock() {
+        Map<String, Integer> stock = new TreeMap<>();
+        jdbcTemplate.query("SELECT goods_id, remaining_stock FROM goods WHERE goods_id LIKE 'GOODS-%'",
+                rs -> { stock.put(rs.getString(1), rs.getInt(2)); });
+        return stock;
+    }
+
+    private Map<String, Integer> attemptsByGoods() {
+        Map<String, Integer> attempts = new TreeMap<>();
+        jdbcTemplate.query("SELECT goods_id, COUNT(*) FROM gacha_attempts GROUP BY goods_id",
+                rs -> { attempts.put(rs.getString(1), rs.getInt(2)); });
+        return attempts;
+    }
+
+    private void report(int pulls, long wallNs, long[] latencies, Map<String, AtomicInteger> outcomes,
+                        Map<String, Integer> stockBefore, Map<String, Integer> stockAfter) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("gacha stress: %d pulls, %d threads, %.0f pulls/s%n",
+                pulls, THREADS, pulls / (wallNs / 1e9));
+        System.out.printf("latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+        new TreeMap<>(outcomes).forEach((outcome, count) -> System.out.printf("  %-26s %5d%n", outcome, count.get()));
+        // 재고 비율 추첨이므로 굿즈별 당첨 수는 시작 재고 비율에 가까워야 한다
+        int totalBefore = stockBefore.values().stream().mapToInt(Integer::intValue).sum();
+        int totalSold = totalBefore - stockAfter.values().stream().mapToInt(Integer::intValue).sum();
+        stockBefore.forEach((goodsId, before) -> System.out.printf("  %-10s won %4d (%.1f%%, stock share %.1f%%)%n",
+                goodsId, before - stockAfter.get(goodsId),
+                totalSold == 0 ? 0 : 100.0 * (before - stockAfter.get(goodsId)) / totalSold,
+                totalBefore == 0 ? 0 : 100.0 * before / totalBefore));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.nextlevel.domain.gacha;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoodsDrawEngineTest {
+
+    private final GoodsRepository goodsRepository = mock(GoodsRepository.class);
+    private final GoodsStockAllocator goodsStockAllocator = mock(GoodsStockAllocator.class);
+
+    @Test
+    void databaseModeRedrawsFromTheRemainingGoodsWhenOneIsSoldOut() {
+        when(goodsRepository.findAll()).thenReturn(List.of(goods("G1"), goods("G2"), goods("G3")));
+        when(goodsRepository.findInStock()).thenReturn(List.of(
+                new Object[]{"G1", 5}, new Object[]{"G2", 5}, new Object[]{"G3", 5}));
+        // G3만 실제로 재고가 남아 있다 (나머지는 추첨과 차감 사이에 품절)
+        List<String> attempted = new ArrayList<>();
+        when(goodsRepository.decrementIfInStock(anyString())).thenAnswer(invocation -> {
+            String goodsId = invocation.getArgument(0);
+            attempted.add(goodsId);
+            return goodsId.equals("G3") ? 1 : 0;
+        });
+
+        Optional<DrawnGoods> drawn = engine(GachaProperties.StockStrategy.DATABASE).drawAndReserve();
+
+        assertThat(drawn).map(DrawnGoods::goodsId).contains("G3");
+        assertThat(attempted).doesNotHaveDuplicates().endsWith("G3");
+        verify(goodsStockAllocator, never()).reserve(anyString());
+    }
+
+    @Test
+    void databaseModeReturnsEmptyWhenEveryCandidateIsSoldOut() {
+        when(goodsRepository.findAll()).thenReturn(List.of(goods("G1"), goods("G2")));
+        when(goodsRepository.findInStock()).thenReturn(List.of(new Object[]{"G1", 1}, new Object[]{"G2", 1}));
+        when(goodsRepository.decrementIfInStock(anyString())).thenReturn(0);
+
+        assertThat(engine(GachaProperties.StockStrategy.DATABASE).drawAndReserve()).isEmpty();
+    }
+
+    private GoodsDrawEngine engine(GachaProperties.StockStrategy strategy) {
+        GoodsDrawEngine engine = new GoodsDrawEngine(
+                goodsRepository, goodsStockAllocator, new GachaProperties(Map.of(), strategy));
+        engine.loadCatalog();
+        return engine;
+    }
+
+    private static Goods goods(String goodsId) {
+        return Goods.builder()
+                .goodsId(goodsId).name(goodsId)
+                .totalStock(5).remainingStock(5).unitPrice(40)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.nextlevel.domain.gacha;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoodsStockAllocatorTest {
+
+    private final GoodsRepository goodsRepository = mock(GoodsRepository.class);
+    private final GoodsStockAllocator allocator = new GoodsStockAllocator(goodsRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void rollbackDuringFlushRestoresEveryDrainedDecrement() {
+        when(goodsRepository.findAll()).thenReturn(List.of(goods("G1"), goods("G2")));
+        allocator.reconcile();
+        allocator.reserve("G1");
+        allocator.reserve("G1");
+        allocator.reserve("G2");
+        // G2 반영이 한 번 실패한다 (반복 순서와 관계없이 앞서 반영한 굿즈도 함께 롤백)
+        when(goodsRepository.decreaseStock(eq("G2"), anyInt()))
+                .thenThrow(new QueryTimeoutException("lock timeout"))
+                .thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatThrownBy(allocator::flush).isInstanceOf(QueryTimeoutException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        clearInvocations(goodsRepository);
+        allocator.flush();
+        verify(goodsRepository).decreaseStock("G1", 2);
+        verify(goodsRepository).decreaseStock("G2", 1);
+    }
+
+    private static Goods goods(String goodsId) {
+        return Goods.builder().goodsId(goodsId).name(goodsId).totalStock(10).remainingStock(10).build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.nextlevel.domain.leaderboard;
+
+import com.nextlevel.domain.leaderboard.dto.LeaderboardEntry;
+import com.nextlevel.domain.leaderboard.dto.MyRankResponse;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.point.event.PointBalanceChangedEvent;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private final Map<String, Integer> balances = new HashMap<>();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PointLedgerService pointLedgerService = mock(PointLedgerService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final LeaderboardService leaderboard = leaderboard();
+
+    @Test
+    void ordersByPointsThenMissionsThenEmployeeIdAndTiesShareARank() {
+        balances.putAll(Map.of("U1", 30, "U2", 50, "U3", 30, "U4", 30));
+        leaderboard.merge("U1", "가", 2);
+        leaderboard.merge("U2", "나", 0);
+        leaderboard.merge("U3", "다", 1);
+        leaderboard.merge("U4", "라", 2);
+
+        assertThat(leaderboard.top(10))
+                .extracting(LeaderboardEntry::employeeId, LeaderboardEntry::rank)
+                .containsExactly(
+                        tuple("U2", 1),
+                        tuple("U1", 2),
+                        tuple("U4", 2),
+                        tuple("U3", 4));
+        assertThat(leaderboard.top(2)).hasSize(2);
+
+        MyRankResponse me = leaderboard.rankOf("U4");
+        assertThat(me.rank()).isEqualTo(2);
+        assertThat(me.participants()).isEqualTo(4);
+        assertThat(me.totalPoints()).isEqualTo(30);
+    }
+
+    @Test
+    void pointChangeRereadsTheBalanceAndMovesTheEntry() {
+        balances.putAll(Map.of("U1", 10, "U2", 20));
+        leaderboard.merge("U1", "가", 0);
+        leaderboard.merge("U2", "나", 0);
+
+        balances.put("U1", 25);
+        leaderboard.onPointBalanceChanged(new PointBalanceChangedEvent(List.of("U1", "U1"), 20));
+
+        assertThat(leaderboard.rankOf("U1").rank()).isEqualTo(1);
+        assertThat(leaderboard.rankOf("U2").rank()).isEqualTo(2);
+        assertThat(leaderboard.top(1).get(0).totalPoints()).isEqualTo(25);
+    }
+
+    @Test
+    void unknownUserIsLoadedAndAdminsAreExcluded() {
+        balances.putAll(Map.of("U1", 10, "ADMIN1", 999));
+        when(userRepository.findById("U1")).thenReturn(Optional.of(user("U1", User.Role.USER, 1)));
+        when(userRepository.findById("ADMIN1")).thenReturn(Optional.of(user("ADMIN1", User.Role.ADMIN, 0)));
+
+        leaderboard.refreshPoints("U1");
+        leaderboard.refreshPoints("ADMIN1");
+        leaderboard.refreshPoints("U1");
+
+        assertThat(leaderboard.top(10)).extracting(LeaderboardEntry::employeeId).containsExactly("U1");
+        assertThat(leaderboard.rankOf("ADMIN1").rank()).isNull();
+        verify(userRepository, times(1)).findById("U1");
+    }
+
+    @Test
+    void lateMissionUpdateDoesNotLowerTheMissionCount() {
+        balances.put("U1", 10);
+        leaderboard.merge("U1", "가", 3);
+        leaderboard.merge("U1", "가", 2);
+
+        assertThat(leaderboard.rankOf("U1").missionsCompleted()).isEqualTo(3);
+    }
+
+    @Test
+    void broadcastsOnlyInTicksWhereTheBoardChanged() {
+        balances.put("U1", 10);
+        leaderboard.merge("U1", "가", 0);
+
+        leaderboard.broadcast();
+        leaderboard.broadcast();
+        leaderboard.merge("U1", "가", 0);   // 변화 없음
+        leaderboard.broadcast();
+
+        verify(messagingTemplate, times(1)).convertAndSend(eq(LeaderboardService.LEADERBOARD_TOPIC), any(List.class));
+    }
+
+    @Test
+    void ranksMatchAFullSortAfterRandomUpdates() {
+        Random random = new Random(7);
+        Map<String, Integer> missions = new HashMap<>();
+        for (int round = 0; round < 5_000; round++) {
+            String employeeId = "U" + random.nextInt(300);
+            balances.put(employeeId, random.nextInt(100) * (random.nextBoolean() ? 1 : 37));
+            int completed = Math.max(missions.getOrDefault(employeeId, 0), random.nextInt(LeaderboardService.MAX_MISSIONS + 1));
+            missions.put(employeeId, completed);
+            leaderboard.merge(employeeId, employeeId, completed);
+        }
+
+        List<String> ids = new ArrayList<>(missions.keySet());
+        for (String employeeId : ids) {
+            long higher = ids.stream()
+                    .filter(other -> balances.get(other) > balances.get(employeeId)
+                            || (balances.get(other).equals(balances.get(employeeId)) && missions.get(other) > missions.get(employeeId)))
+                    .count();
+            assertThat(leaderboard.rankOf(employeeId).rank()).isEqualTo(higher + 1);
+        }
+        List<LeaderboardEntry> all = leaderboard.top(ids.size());
+        assertThat(all).hasSize(ids.size());
+        all.forEach(entry -> assertThat(entry.rank()).isEqualTo(leaderboard.rankOf(entry.employeeId()).rank()));
+    }
+
+    @Test
+    void topNeverSkipsOrRepeatsAUserWhileStandingsMove() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            balances.put("U" + i, i);
+            leaderboard.merge("U" + i, "U" + i, 0);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> writer = executor.submit(() -> {
+            Random random = new Random(11);
+            for (int round = 0; round < 20_000; round++) {
+                String employeeId = "U" + random.nextInt(50);
+                balances.put(employeeId, random.nextInt(1_000));
+                leaderboard.merge(employeeId, employeeId, 0);
+            }
+        });
+        while (!writer.isDone()) {
+            assertThat(leaderboard.top(50)).extracting(LeaderboardEntry::employeeId)
+                    .hasSize(50)
+                    .doesNotHaveDuplicates();
+        }
+        writer.get();
+        executor.shutdown();
+    }
+
+    private LeaderboardService leaderboard() {
+        when(pointLedgerService.getBalance(anyString()))
+                .thenAnswer(invocation -> balances.getOrDefault(invocation.<String>getArgument(0), 0));
+        LeaderboardService service = new LeaderboardService(userRepository, pointLedgerService, messagingTemplate);
+        ReflectionTestUtils.setField(service, "broadcastSize", 10);
+        return service;
+    }
+
+    private User user(String employeeId, User.Role role, int missionsCompleted) {
+        return User.builder().employeeId(employeeId).name(employeeId).role(role).missionsCompleted(missionsCompleted).build();
+    }
+}
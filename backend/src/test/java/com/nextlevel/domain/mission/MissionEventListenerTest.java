@@ -0,0 +1,234 @@
+package com.nextlevel.domain.mission;
+
+import com.nextlevel.domain.booth.event.BoothVisitorMilestoneEvent;
+import com.nextlevel.domain.comment.CommentRepository;
+import com.nextlevel.domain.comment.event.CommentAddedEvent;
+import com.nextlevel.domain.evaluation.ReviewRepository;
+import com.nextlevel.domain.evaluation.event.ReviewAddedEvent;
+import com.nextlevel.domain.gacha.GachaAttemptRepository;
+import com.nextlevel.domain.gacha.event.GachaAttemptedEvent;
+import com.nextlevel.domain.growth.GrowthZoneRepository;
+import com.nextlevel.domain.growth.event.GrowthCompletedEvent;
+import com.nextlevel.domain.mission.event.MissionCompletedEvent;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.BoothVisitRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MissionEventListenerTest {
+
+    private static final List<String> USERS = List.of("U1", "U2", "U3");
+
+    // 원천 데이터 건수 (미션 ID -> 사번 -> 건수), 모든 미션 엔진이 같은 원천을 본다
+    private final Map<String, Map<String, Long>> sources = new ConcurrentHashMap<>();
+
+    @Test
+    void replayedEventsEndInTheSameStateAsAFullRecount() {
+        Engine live = new Engine();
+        Random random = new Random(3);
+
+        for (int round = 0; round < 400; round++) {
+            String employeeId = USERS.get(random.nextInt(USERS.size()));
+            Consumer<Engine> deliver = write(employeeId, random.nextInt(5));
+            // 같은 이벤트가 1~3번 전달된다
+            for (int times = 1 + random.nextInt(3); times > 0; times--) {
+                deliver.accept(live);
+            }
+        }
+
+        assertThat(live.state()).isEqualTo(recount());
+        live.completions.forEach((key, count) -> assertThat(count).as(key).isEqualTo(1));
+    }
+
+    @Test
+    void droppedEventsAndListenerFailuresConvergeAfterReconcileAll() {
+        Engine live = new Engine();
+        Random random = new Random(5);
+
+        for (int round = 0; round < 400; round++) {
+            String employeeId = USERS.get(random.nextInt(USERS.size()));
+            int kind = random.nextInt(5);
+            if (employeeId.equals("U1") && kind == 0) continue;
+            Consumer<Engine> deliver = write(employeeId, kind);
+            // 절반은 유실된다
+            if (random.nextBoolean()) {
+                deliver.accept(live);
+            }
+        }
+        // U1의 첫 댓글 이벤트는 처리 중 실패하고, 예외는 리스너 밖으로 나가지 않는다
+        when(live.commentRepository.countByUserEmployeeId("U1"))
+                .thenThrow(new QueryTimeoutException("lock timeout"));
+        write("U1", 0).accept(live);
+        assertThat(live.mission("U1", "M1").isCompleted()).isFalse();
+
+        live.service.reconcileAll();
+
+        assertThat(live.state()).isEqualTo(recount());
+        assertThat(live.mission("U1", "M1").isCompleted()).isTrue();
+        live.completions.forEach((key, count) -> assertThat(count).as(key).isEqualTo(1));
+    }
+
+    @Test
+    void reconcilesForTheSameUserNeverOverlap() throws Exception {
+        Engine live = new Engine();
+        sources.put("M5", new ConcurrentHashMap<>(Map.of("U1", 12L)));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(live.reviewRepository.countByUserEmployeeId("U1")).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            inFlight.decrementAndGet();
+            return 12;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                live.listener.onReviewAdded(new ReviewAddedEvent("U1", "B1"));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(live.mission("U1", "M5").isCompleted()).isTrue();
+        assertThat(live.completions).containsExactly(Map.entry("U1:M5", 1));
+    }
+
+    /**
+     * 원천 데이터를 하나 쓰고, 그 쓰기가 발행하는 이벤트를 전달하는 동작을 돌려준다.
+     * 방문은 사용자를 부스 소유자로 보고 방문자 카운터처럼 30·70명을 넘을 때만 이벤트를 낸다.
+     */
+    private Consumer<Engine> write(String employeeId, int kind) {
+        String missionId = "M" + (kind + 1);
+        long count = sources.computeIfAbsent(missionId, id -> new ConcurrentHashMap<>())
+                .merge(employeeId, missionId.equals("M3") ? 10L : 1L, Long::sum);
+        return switch (missionId) {
+            case "M1" -> engine -> engine.listener.onCommentAdded(new CommentAddedEvent(employeeId, "B1"));
+            case "M2" -> engine -> engine.listener.onGrowthCompleted(new GrowthCompletedEvent(employeeId));
+            case "M3" -> engine -> engine.listener.onBoothVisitorMilestone(
+                    new BoothVisitorMilestoneEvent("B1", employeeId, (int) count));
+            case "M4" -> engine -> engine.listener.onGachaAttempted(new GachaAttemptedEvent(employeeId, (int) count));
+            default -> engine -> engine.listener.onReviewAdded(new ReviewAddedEvent(employeeId, "B1"));
+        };
+    }
+
+    // 새 미션 행에서 원천 데이터만으로 다시 계산한 상태
+    private Map<String, String> recount() {
+        Engine fresh = new Engine();
+        fresh.service.reconcileAll();
+        return fresh.state();
+    }
+
+    private long count(String missionId, String employeeId) {
+        return sources.getOrDefault(missionId, Map.of()).getOrDefault(employeeId, 0L);
+    }
+
+    private List<Object[]> rows(String missionId) {
+        return sources.getOrDefault(missionId, Map.of()).entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                .toList();
+    }
+
+    /**
+     * 메모리의 user_missions 행 위에서 동작하는 미션 서비스와 리스너.
+     */
+    private final class Engine {
+
+        private final Map<String, UserMission> missions = new ConcurrentHashMap<>();
+        private final Map<String, Integer> completions = new ConcurrentHashMap<>();
+        private final CommentRepository commentRepository = mock(CommentRepository.class);
+        private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+        private final MissionService service;
+        private final MissionEventListener listener;
+
+        Engine() {
+            for (String employeeId : USERS) {
+                User user = User.builder().employeeId(employeeId).name(employeeId).build();
+                missions.put(employeeId + ":M1", UserMission.builder().user(user).missionId("M1").isUnlocked(true).target(1).build());
+                missions.put(employeeId + ":M2", UserMission.builder().user(user).missionId("M2").isUnlocked(true).target(1).build());
+                missions.put(employeeId + ":M3", UserMission.builder().user(user).missionId("M3").target(1).build());
+                missions.put(employeeId + ":M4", UserMission.builder().user(user).missionId("M4").target(2).build());
+                missions.put(employeeId + ":M5", UserMission.builder().user(user).missionId("M5").target(12).build());
+            }
+
+            UserMissionRepository userMissionRepository = mock(UserMissionRepository.class);
+            when(userMissionRepository.findByUserEmployeeIdAndMissionId(anyString(), anyString()))
+                    .thenAnswer(invocation -> Optional.ofNullable(
+                            missions.get(invocation.getArgument(0) + ":" + invocation.getArgument(1))));
+            when(userMissionRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(missions.values()));
+
+            when(commentRepository.countByUserEmployeeId(anyString()))
+                    .thenAnswer(invocation -> count("M1", invocation.getArgument(0)));
+            when(commentRepository.countGroupByUser()).thenAnswer(invocation -> rows("M1"));
+            GrowthZoneRepository growthZoneRepository = mock(GrowthZoneRepository.class);
+            when(growthZoneRepository.existsByUserEmployeeId(anyString()))
+                    .thenAnswer(invocation -> count("M2", invocation.getArgument(0)) > 0);
+            when(growthZoneRepository.countGroupByUser()).thenAnswer(invocation -> rows("M2"));
+            BoothVisitRepository boothVisitRepository = mock(BoothVisitRepository.class);
+            when(boothVisitRepository.countByBoothOwnerEmployeeId(anyString()))
+                    .thenAnswer(invocation -> count("M3", invocation.getArgument(0)));
+            when(boothVisitRepository.countGroupByBoothOwner()).thenAnswer(invocation -> rows("M3"));
+            GachaAttemptRepository gachaAttemptRepository = mock(GachaAttemptRepository.class);
+            when(gachaAttemptRepository.countByUserEmployeeId(anyString()))
+                    .thenAnswer(invocation -> (int) count("M4", invocation.getArgument(0)));
+            when(gachaAttemptRepository.countGroupByUser()).thenAnswer(invocation -> rows("M4"));
+            when(reviewRepository.countByUserEmployeeId(anyString()))
+                    .thenAnswer(invocation -> (int) count("M5", invocation.getArgument(0)));
+            when(reviewRepository.countGroupByUser()).thenAnswer(invocation -> rows("M5"));
+
+            ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+            doAnswer(invocation -> {
+                MissionCompletedEvent event = invocation.getArgument(0);
+                completions.merge(event.employeeId() + ":" + event.missionId(), 1, Integer::sum);
+                return null;
+            }).when(eventPublisher).publishEvent(any(MissionCompletedEvent.class));
+
+            service = new MissionService(userMissionRepository, mock(UserRepository.class), commentRepository,
+                    growthZoneRepository, boothVisitRepository, gachaAttemptRepository, reviewRepository, eventPublisher);
+            listener = new MissionEventListener(service, mock(SimpMessagingTemplate.class));
+        }
+
+        UserMission mission(String employeeId, String missionId) {
+            return missions.get(employeeId + ":" + missionId);
+        }
+
+        Map<String, String> state() {
+            Map<String, String> state = new TreeMap<>();
+            missions.forEach((key, mission) -> state.put(key,
+                    mission.isUnlocked() + "/" + mission.isCompleted() + "/" + mission.getProgress()));
+            return state;
+        }
+    }
+}
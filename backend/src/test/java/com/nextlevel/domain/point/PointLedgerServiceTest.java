@@ -0,0 +1,122 @@
+package com.nextlevel.domain.point;
+
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PointLedgerServiceTest {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointSnapshotRepository pointSnapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentDebitsNeverExceedTheBalance() throws Exception {
+        user("POINT-U1", 100);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    pointLedgerService.debit("POINT-U1", 30, PointLedgerEntry.Reason.SHOP);
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo("POINT_INSUFFICIENT");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(succeeded.get()).isEqualTo(3);
+        assertThat(pointLedgerService.getBalance("POINT-U1")).isEqualTo(10);
+    }
+
+    @Test
+    void batchDebitChargesNobodyWhenAnyoneIsShort() {
+        user("POINT-U2", 50);
+        user("POINT-U3", 20);
+
+        Map<String, Integer> amounts = new LinkedHashMap<>();
+        amounts.put("POINT-U2", 30);
+        amounts.put("POINT-U3", 30);
+        assertThatThrownBy(() -> pointLedgerService.debitAll(amounts, PointLedgerEntry.Reason.SHOP))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("POINT_INSUFFICIENT");
+        assertThat(pointLedgerService.getBalance("POINT-U2")).isEqualTo(50);
+        assertThat(pointLedgerService.getBalance("POINT-U3")).isEqualTo(20);
+
+        amounts.put("POINT-U3", 20);
+        assertThat(pointLedgerService.debitAll(amounts, PointLedgerEntry.Reason.SHOP))
+                .containsExactly(Map.entry("POINT-U2", 20), Map.entry("POINT-U3", 0));
+    }
+
+    @Test
+    void uncommittedCreditCannotBeSpentAndVanishesOnRollback() {
+        user("POINT-U5", 0);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            pointLedgerService.credit("POINT-U5", 50, PointLedgerEntry.Reason.VISIT);
+            assertThatThrownBy(() -> pointLedgerService.debit("POINT-U5", 30, PointLedgerEntry.Reason.SHOP))
+                    .isInstanceOf(BusinessException.class);
+            status.setRollbackOnly();
+        });
+        assertThat(pointLedgerService.getBalance("POINT-U5")).isZero();
+
+        pointLedgerService.credit("POINT-U5", 50, PointLedgerEntry.Reason.VISIT);
+        assertThat(pointLedgerService.getBalance("POINT-U5")).isEqualTo(50);
+    }
+
+    @Test
+    void preLedgerPointsAreCarriedIntoTheBalanceAsASnapshot() {
+        userRepository.save(User.builder().employeeId("POINT-U4").name("POINT-U4").totalPoints(70).build());
+
+        pointLedgerService.seedSnapshotsFromUsers();
+        pointLedgerService.credit("POINT-U4", 10, PointLedgerEntry.Reason.VISIT);
+        pointLedgerService.seedSnapshotsFromUsers();
+
+        assertThat(pointLedgerService.getBalance("POINT-U4")).isEqualTo(80);
+        assertThat(pointSnapshotRepository.findById("POINT-U4")).get()
+                .extracting(PointSnapshot::getBalance, PointSnapshot::getLastEntryId)
+                .containsExactly(70, 0L);
+    }
+
+    private void user(String employeeId, int points) {
+        userRepository.save(User.builder().employeeId(employeeId).name(employeeId).build());
+        pointLedgerService.credit(employeeId, points, PointLedgerEntry.Reason.VISIT);
+    }
+}
@@ -0,0 +1,95 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.point.PointLedgerEntry;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.BatchScanRequest;
+import com.nextlevel.domain.visit.dto.BatchScanResponse;
+import com.nextlevel.domain.visit.dto.BatchScanResponse.ItemResult;
+import com.nextlevel.domain.visit.dto.BatchScanResponse.Status;
+import com.nextlevel.domain.visit.event.VisitRecordedEvent;
+import com.nextlevel.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoothVisitBatchConflictTest {
+
+    private final BoothVisitRepository boothVisitRepository = mock(BoothVisitRepository.class);
+    private final BoothRepository boothRepository = mock(BoothRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final PointLedgerService pointLedgerService = mock(PointLedgerService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BoothVisitBatchService service = new BoothVisitBatchService(boothVisitRepository,
+            mock(VisitedBoothIndex.class), boothRepository, userRepository, jwtTokenProvider,
+            pointLedgerService, eventPublisher, jdbcTemplate);
+
+    @Test
+    void rowSkippedByRacingSingleScanIsNotCreditedEvenWhenTheDriverReportsNoRowCounts() {
+        Booth booth = Booth.builder().boothId("B1").name("B1").zone("A").floor("1F").build();
+        when(jwtTokenProvider.getQrEmployeeId(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of("U1", "U2"));
+        when(boothRepository.findAllById(anyCollection())).thenReturn(List.of(booth));
+        when(boothVisitRepository.findPairsIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        // 중복 판정 이후 U2의 단건 스캔이 먼저 커밋되어 두 번째 행은 건너뛰어졌다
+        // 다중 행 INSERT로 재작성된 배치는 행마다 SUCCESS_NO_INFO(-2)만 돌려준다
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Object>>any()))
+                .thenReturn(new int[][]{{-2, -2}});
+        when(boothVisitRepository.findByIdempotencyKeyIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(visit(1L, booth, "U1", ScanIdempotencyStore.scopedKey("k1", "U1", "B1"))));
+
+        BatchScanResponse response = service.scanBatch(request(item("k1", "U1"), item("k2", "U2")));
+
+        assertThat(response.getResults()).extracting(ItemResult::getStatus)
+                .containsExactly(Status.RECORDED, Status.DUPLICATE);
+        assertThat(response.getRecorded()).isEqualTo(1);
+        verify(pointLedgerService).creditAll(eq(List.of("U1")), eq(10), eq(PointLedgerEntry.Reason.VISIT));
+        verify(eventPublisher).publishEvent(any(VisitRecordedEvent.class));
+    }
+
+    private static BoothVisit visit(Long visitId, Booth booth, String employeeId, String idempotencyKey) {
+        return BoothVisit.builder()
+                .visitId(visitId)
+                .booth(booth)
+                .user(User.builder().employeeId(employeeId).name(employeeId).build())
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    private static BatchScanRequest request(BatchScanRequest.Item... items) {
+        BatchScanRequest request = new BatchScanRequest();
+        ReflectionTestUtils.setField(request, "items", List.of(items));
+        return request;
+    }
+
+    private static BatchScanRequest.Item item(String idempotencyKey, String employeeId) {
+        BatchScanRequest.Item item = new BatchScanRequest.Item();
+        ReflectionTestUtils.setField(item, "idempotencyKey", idempotencyKey);
+        ReflectionTestUtils.setField(item, "qrToken", employeeId);
+        ReflectionTestUtils.setField(item, "boothId", "B1");
+        return item;
+    }
+}
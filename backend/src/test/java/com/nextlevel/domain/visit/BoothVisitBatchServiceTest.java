@@ -0,0 +1,124 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.booth.BoothVisitorCounter;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.BatchScanRequest;
+import com.nextlevel.domain.visit.dto.BatchScanResponse;
+import com.nextlevel.domain.visit.dto.BatchScanResponse.ItemResult;
+import com.nextlevel.domain.visit.dto.BatchScanResponse.Status;
+import com.nextlevel.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoothVisitBatchServiceTest {
+
+    @Autowired
+    private BoothVisitBatchService boothVisitBatchService;
+
+    @Autowired
+    private BoothRepository boothRepository;
+
+    @Autowired
+    private BoothVisitorCounter boothVisitorCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VisitedBoothIndex visitedBoothIndex;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void replayedBatchReturnsSameResultsWithoutRecordingTwice() {
+        boothRepository.save(Booth.builder()
+                .boothId("BATCH-B1").name("BATCH-B1").shortDescription("일괄 스캔 테스트 부스")
+                .zone("LOAD").floor("B1F").build());
+        userRepository.saveAll(List.of(
+                User.builder().employeeId("BATCH-U1").name("BATCH-U1").build(),
+                User.builder().employeeId("BATCH-U2").name("BATCH-U2").build()));
+        String qr1 = jwtTokenProvider.generateQrToken("BATCH-U1");
+        String qr2 = jwtTokenProvider.generateQrToken("BATCH-U2");
+
+        BatchScanRequest request = request(List.of(
+                item("k1", qr1, "BATCH-B1"),
+                item("k2", qr1, "BATCH-B1"),      // 같은 방문을 다른 키로 재스캔
+                item("k3", qr2, "BATCH-B1"),
+                item("k4", "not-a-token", "BATCH-B1"),
+                item("k5", qr2, "BATCH-UNKNOWN"),
+                item("k1", qr1, "BATCH-B1")));    // 같은 키 재전송
+
+        BatchScanResponse first = boothVisitBatchService.scanBatch(request);
+
+        assertThat(first.getResults()).extracting(ItemResult::getStatus).containsExactly(
+                Status.RECORDED, Status.DUPLICATE, Status.RECORDED, Status.FAILED, Status.FAILED, Status.RECORDED);
+        assertThat(first.getResults().get(3).getErrorCode()).isEqualTo("QR_INVALID");
+        assertThat(first.getRecorded()).isEqualTo(3);
+        assertThat(boothVisitorCounter.get("BATCH-B1")).isEqualTo(2);
+        assertThat(pointLedgerService.getBalance("BATCH-U1")).isEqualTo(10);
+        assertThat(visitedBoothIndex.hasVisited("BATCH-U2", "BATCH-B1")).isTrue();
+
+        BatchScanResponse replay = boothVisitBatchService.scanBatch(request);
+
+        assertThat(replay.getResults()).extracting(ItemResult::getStatus)
+                .containsExactlyElementsOf(first.getResults().stream().map(ItemResult::getStatus).toList());
+        assertThat(replay.getResults().get(0).getVisit().getVisitId())
+                .isEqualTo(first.getResults().get(0).getVisit().getVisitId());
+        boothVisitorCounter.flush();
+        assertThat(boothVisitorCounter.get("BATCH-B1")).isEqualTo(2);
+        assertThat(boothRepository.findById("BATCH-B1").orElseThrow().getVisitorCount()).isEqualTo(2);
+        assertThat(pointLedgerService.getBalance("BATCH-U1")).isEqualTo(10);
+    }
+
+    @Test
+    void reusedKeyForAnotherScanRecordsThatScanInsteadOfReturningTheStoredVisit() {
+        boothRepository.save(Booth.builder()
+                .boothId("BATCH-B2").name("BATCH-B2").shortDescription("일괄 스캔 테스트 부스")
+                .zone("LOAD").floor("B1F").build());
+        userRepository.saveAll(List.of(
+                User.builder().employeeId("BATCH-U3").name("BATCH-U3").build(),
+                User.builder().employeeId("BATCH-U4").name("BATCH-U4").build()));
+
+        BatchScanResponse first = boothVisitBatchService.scanBatch(request(List.of(
+                item("shared", jwtTokenProvider.generateQrToken("BATCH-U3"), "BATCH-B2"))));
+        BatchScanResponse other = boothVisitBatchService.scanBatch(request(List.of(
+                item("shared", jwtTokenProvider.generateQrToken("BATCH-U4"), "BATCH-B2"))));
+
+        assertThat(other.getResults()).extracting(ItemResult::getStatus).containsExactly(Status.RECORDED);
+        assertThat(other.getResults().get(0).getVisit().getVisitId())
+                .isNotEqualTo(first.getResults().get(0).getVisit().getVisitId());
+        assertThat(pointLedgerService.getBalance("BATCH-U4")).isEqualTo(10);
+        assertThat(visitedBoothIndex.hasVisited("BATCH-U4", "BATCH-B2")).isTrue();
+    }
+
+    private BatchScanRequest request(List<BatchScanRequest.Item> items) {
+        BatchScanRequest request = new BatchScanRequest();
+        ReflectionTestUtils.setField(request, "items", items);
+        return request;
+    }
+
+    private BatchScanRequest.Item item(String idempotencyKey, String qrToken, String boothId) {
+        BatchScanRequest.Item item = new BatchScanRequest.Item();
+        ReflectionTestUtils.setField(item, "idempotencyKey", idempotencyKey);
+        ReflectionTestUtils.setField(item, "qrToken", qrToken);
+        ReflectionTestUtils.setField(item, "boothId", boothId);
+        return item;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.ScanRequest;
+import com.nextlevel.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoothVisitRollbackTest {
+
+    @Autowired
+    private BoothVisitService boothVisitService;
+
+    @Autowired
+    private BoothRepository boothRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoothVisitRepository boothVisitRepository;
+
+    @Autowired
+    private VisitedBoothIndex visitedBoothIndex;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rolledBackScanIsNotIndexedAndCanBeRetried() {
+        boothRepository.save(Booth.builder()
+                .boothId("ROLLBACK-B1").name("ROLLBACK-B1").shortDescription("롤백 테스트 부스")
+                .zone("LOAD").floor("1F").build());
+        userRepository.save(User.builder().employeeId("ROLLBACK-U1").name("ROLLBACK-U1").build());
+        ScanRequest request = scanRequest(jwtTokenProvider.generateQrToken("ROLLBACK-U1"), "ROLLBACK-B1");
+
+        // 방문 INSERT까지 마친 뒤 바깥 트랜잭션이 롤백된다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            boothVisitService.scan(request);
+            assertThat(visitedBoothIndex.hasVisited("ROLLBACK-U1", "ROLLBACK-B1")).isFalse();
+            status.setRollbackOnly();
+        });
+
+        assertThat(visitedBoothIndex.hasVisited("ROLLBACK-U1", "ROLLBACK-B1")).isFalse();
+        assertThat(boothVisitRepository.countByBoothBoothId("ROLLBACK-B1")).isZero();
+
+        // 재시도는 중복으로 막히지 않고 기록된다
+        boothVisitService.scan(request);
+
+        assertThat(visitedBoothIndex.hasVisited("ROLLBACK-U1", "ROLLBACK-B1")).isTrue();
+        assertThat(boothVisitRepository.countByBoothBoothId("ROLLBACK-B1")).isEqualTo(1);
+        assertThat(pointLedgerService.getBalance("ROLLBACK-U1")).isEqualTo(10);
+    }
+
+    private ScanRequest scanRequest(String qrToken, String boothId) {
+        ScanRequest request = new ScanRequest();
+        ReflectionTestUtils.setField(request, "qrToken", qrToken);
+        ReflectionTestUtils.setField(request, "boothId", boothId);
+        return request;
+    }
+}
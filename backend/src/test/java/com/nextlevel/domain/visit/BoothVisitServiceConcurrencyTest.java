@@ -0,0 +1,132 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.booth.Booth;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.booth.BoothVisitorCounter;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.User;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.ScanRequest;
+import com.nextlevel.exception.BusinessException;
+import com.nextlevel.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoothVisitServiceConcurrencyTest {
+
+    private static final int BOOTH_COUNT = 4;
+    private static final int USER_COUNT = 600;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BoothVisitService boothVisitService;
+
+    @Autowired
+    private BoothRepository boothRepository;
+
+    @Autowired
+    private BoothVisitorCounter boothVisitorCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoothVisitRepository boothVisitRepository;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void parallelScansKeepVisitorCountEqualToVisitRows() throws Exception {
+        List<String> boothIds = IntStream.rangeClosed(1, BOOTH_COUNT)
+                .mapToObj(i -> "LOAD-B" + i).toList();
+        List<String> employeeIds = IntStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(i -> String.format("LOAD-U%04d", i)).toList();
+        boothRepository.saveAll(boothIds.stream().map(this::booth).toList());
+        userRepository.saveAll(employeeIds.stream().map(this::user).toList());
+
+        // 모든 사용자가 모든 부스를 스캔하고, 첫 부스는 한 번 더 스캔(재시도 중복)
+        List<ScanRequest> requests = new ArrayList<>();
+        for (String employeeId : employeeIds) {
+            String qrToken = jwtTokenProvider.generateQrToken(employeeId);
+            boothIds.forEach(boothId -> requests.add(scanRequest(qrToken, boothId)));
+            requests.add(scanRequest(qrToken, boothIds.get(0)));
+        }
+        Collections.shuffle(requests);
+
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = requests.stream()
+                .<Future<?>>map(request -> executor.submit(() -> {
+                    try {
+                        boothVisitService.scan(request);
+                        recorded.incrementAndGet();
+                    } catch (BusinessException e) {
+                        assertThat(e.getErrorCode()).isEqualTo("VISIT_DUPLICATE");
+                        duplicates.incrementAndGet();
+                    }
+                }))
+                .toList();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(recorded.get()).isEqualTo(BOOTH_COUNT * USER_COUNT);
+        assertThat(duplicates.get()).isEqualTo(USER_COUNT);
+        boothVisitorCounter.flush();
+        for (String boothId : boothIds) {
+            assertThat(boothVisitorCounter.get(boothId)).isEqualTo(USER_COUNT);
+            int visitorCount = boothRepository.findById(boothId).orElseThrow().getVisitorCount();
+            assertThat(visitorCount)
+                    .isEqualTo(boothVisitRepository.countByBoothBoothId(boothId))
+                    .isEqualTo(USER_COUNT);
+        }
+        for (String employeeId : List.of(employeeIds.get(0), employeeIds.get(USER_COUNT - 1))) {
+            assertThat(pointLedgerService.getBalance(employeeId)).isEqualTo(BOOTH_COUNT * 10);
+        }
+    }
+
+    private Booth booth(String boothId) {
+        return Booth.builder()
+                .boothId(boothId)
+                .name(boothId)
+                .shortDescription("동시성 테스트 부스")
+                .zone("LOAD")
+                .floor("1F")
+                .build();
+    }
+
+    private User user(String employeeId) {
+        return User.builder().employeeId(employeeId).name(employeeId).build();
+    }
+
+    private ScanRequest scanRequest(String qrToken, String boothId) {
+        ScanRequest request = new ScanRequest();
+        ReflectionTestUtils.setField(request, "qrToken", qrToken);
+        ReflectionTestUtils.setField(request, "boothId", boothId);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.common.ApiResponse;
+import com.nextlevel.domain.booth.BoothRepository;
+import com.nextlevel.domain.point.PointLedgerService;
+import com.nextlevel.domain.user.UserRepository;
+import com.nextlevel.domain.visit.dto.QrResponse;
+import com.nextlevel.security.IssuedQrToken;
+import com.nextlevel.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QrReissueTest {
+
+    private static final long QR_EXPIRATION_MS = 600_000L;
+    private static final long REFRESH_WINDOW_MS = 120_000L;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final AtomicInteger signed = new AtomicInteger();
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final BoothVisitService boothVisitService = new BoothVisitService(mock(BoothVisitRepository.class),
+            mock(VisitedBoothIndex.class), mock(BoothRepository.class), mock(UserRepository.class), jwtTokenProvider,
+            mock(ApplicationEventPublisher.class), mock(PointLedgerService.class), 100, REFRESH_WINDOW_MS, now::get);
+    private final QrController qrController = new QrController(boothVisitService,
+            mock(BoothVisitBatchService.class), mock(ScanIdempotencyStore.class));
+
+    QrReissueTest() {
+        when(jwtTokenProvider.issueQrToken(anyString())).thenAnswer(invocation -> new IssuedQrToken(
+                "qr-" + signed.incrementAndGet(), now.get() + QR_EXPIRATION_MS));
+    }
+
+    @Test
+    void cachedQrIsReusedUntilTheRefreshWindowAndThenReissued() {
+        QrResponse first = boothVisitService.generateQr("U1");
+
+        now.addAndGet(QR_EXPIRATION_MS - REFRESH_WINDOW_MS - 1);
+        assertThat(boothVisitService.generateQr("U1").getQrToken()).isEqualTo(first.getQrToken());
+        assertThat(boothVisitService.generateQr("U2").getQrToken()).isNotEqualTo(first.getQrToken());
+        assertThat(signed).hasValue(2);
+
+        now.incrementAndGet();
+        QrResponse reissued = boothVisitService.generateQr("U1");
+        assertThat(reissued.getQrToken()).isNotEqualTo(first.getQrToken());
+        assertThat(reissued.getExpiresAt()).isEqualTo(now.get() + QR_EXPIRATION_MS);
+        assertThat(signed).hasValue(3);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModifiedUntilTheTokenChanges() {
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        ResponseEntity<ApiResponse<QrResponse>> first = qrController.getMyQr("U1", request(null, firstResponse));
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        MockHttpServletResponse revalidated = new MockHttpServletResponse();
+        assertThat(qrController.getMyQr("U1", request(etag, revalidated))).isNull();
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+
+        now.addAndGet(QR_EXPIRATION_MS - REFRESH_WINDOW_MS);
+        MockHttpServletResponse afterRefresh = new MockHttpServletResponse();
+        ResponseEntity<ApiResponse<QrResponse>> reissued = qrController.getMyQr("U1", request(etag, afterRefresh));
+        assertThat(reissued).isNotNull();
+        assertThat(afterRefresh.getStatus()).isEqualTo(200);
+        assertThat(reissued.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(reissued.getBody().getData().getQrToken()).isNotEqualTo(first.getBody().getData().getQrToken());
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/qr/my");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,95 @@
+package com.nextlevel.domain.visit;
+
+import com.nextlevel.domain.visit.dto.ScanRequest;
+import com.nextlevel.domain.visit.dto.VisitResponse;
+import com.nextlevel.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScanIdempotencyStoreTest {
+
+    private final ScanIdempotencyStore store = new ScanIdempotencyStore(100, 60_000);
+
+    @Test
+    void concurrentRetriesRunScanOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        VisitResponse visit = VisitResponse.builder().visitId(1L).boothId("BOOTH-01").build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<VisitResponse>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> executor.submit(() -> store.execute("key:retry", () -> {
+                    executions.incrementAndGet();
+                    awaitQuietly(release);
+                    return visit;
+                })))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<VisitResponse> future : futures) {
+            assertThat(future.get()).isSameAs(visit);
+        }
+        executor.shutdown();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void businessErrorIsReplayedButUnexpectedErrorIsNot() {
+        AtomicInteger executions = new AtomicInteger();
+        BusinessException duplicate = new BusinessException("이미 방문한 부스입니다.", HttpStatus.CONFLICT, "VISIT_DUPLICATE");
+
+        assertThatThrownBy(() -> store.execute("key:dup", () -> {
+            executions.incrementAndGet();
+            throw duplicate;
+        })).isSameAs(duplicate);
+        assertThatThrownBy(() -> store.execute("key:dup", () -> {
+            executions.incrementAndGet();
+            return null;
+        })).isSameAs(duplicate);
+        assertThat(executions.get()).isEqualTo(1);
+
+        assertThatThrownBy(() -> store.execute("key:timeout", () -> {
+            throw new IllegalStateException("lock timeout");
+        })).isInstanceOf(IllegalStateException.class);
+        VisitResponse visit = VisitResponse.builder().visitId(2L).build();
+        assertThat(store.execute("key:timeout", () -> visit)).isSameAs(visit);
+    }
+
+    @Test
+    void idempotencyKeyIsScopedToTheScannedRequest() {
+        String key = store.keyOf("k1", scanRequest("qr-a", "BOOTH-01"));
+
+        assertThat(store.keyOf("k1", scanRequest("qr-a", "BOOTH-01"))).isEqualTo(key);
+        assertThat(store.keyOf("k1", scanRequest("qr-b", "BOOTH-01"))).isNotEqualTo(key);
+        assertThat(store.keyOf("k1", scanRequest("qr-a", "BOOTH-02"))).isNotEqualTo(key);
+        assertThat(store.keyOf(null, scanRequest("qr-a", "BOOTH-01"))).isNotEqualTo(key);
+    }
+
+    private static ScanRequest scanRequest(String qrToken, String boothId) {
+        ScanRequest request = new ScanRequest();
+        ReflectionTestUtils.setField(request, "qrToken", qrToken);
+        ReflectionTestUtils.setField(request, "boothId", boothId);
+        return request;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.nextlevel.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactQrTokenTest {
+
+    private static final String SECRET = "nextlevel-onlyone-fair-hagojabbi-secret-key-2024-minimum-256bits";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final CompactQrToken qrTokens = new CompactQrToken(SECRET.getBytes(), now::get);
+
+    @Test
+    void roundTripUsesQrAlphanumericCharactersOnly() {
+        String token = qrTokens.encode("E001", now.get() + 600_000L);
+
+        assertThat(token).matches("[A-Z2-7]+").hasSize(32);
+        assertThat(qrTokens.decode(token)).isEqualTo("E001");
+    }
+
+    @Test
+    void rejectsTamperedTruncatedAndExpiredTokens() {
+        String token = qrTokens.encode("LOAD-U0001", now.get() + 600_000L);
+
+        for (int i = 0; i < token.length(); i++) {
+            char replacement = token.charAt(i) == 'A' ? 'B' : 'A';
+            String tampered = token.substring(0, i) + replacement + token.substring(i + 1);
+            assertThat(qrTokens.decode(tampered)).as("position %d", i).isNull();
+        }
+        assertThat(qrTokens.decode(token.substring(1))).isNull();
+        assertThat(qrTokens.decode(token + "A")).isNull();
+        assertThat(qrTokens.decode("e001")).isNull();
+
+        now.addAndGet(600_000L);
+        assertThat(qrTokens.decode(token)).isNull();
+    }
+
+    @Test
+    void providerAcceptsBothCompactAndLegacyJwtQrTokens() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 86_400_000L, 100, 300_000L);
+        String legacy = Jwts.builder()
+                .subject("E002")
+                .claim("type", "QR")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 600_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        assertThat(provider.getQrEmployeeId(provider.generateQrToken("E001"))).isEqualTo("E001");
+        assertThat(provider.getQrEmployeeId(legacy)).isEqualTo("E002");
+        assertThatThrownBy(() -> provider.getQrEmployeeId("AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"))
+                .isInstanceOf(JwtException.class);
+        // 액세스 토큰으로는 쓸 수 없다
+        assertThat(provider.authenticate(provider.generateQrToken("E001"))).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.nextlevel.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 인증 비용 비교 마이크로벤치마크. (./gradlew benchmark)
+ * - legacy: 요청마다 파서를 새로 만들고 validate/getEmployeeId/getRole로 세 번 파싱
+ * - parse-once: 공유 파서로 한 번만 파싱 (캐시 비활성화)
+ * - cached: 검증된 토큰 캐시 적중
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "nextlevel-onlyone-fair-hagojabbi-secret-key-2024-minimum-256bits";
+    private static final long EXPIRATION_MS = 86_400_000L;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+    @Test
+    void perRequestAuthenticationCost() {
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, EXPIRATION_MS, 0, 300_000L);
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, EXPIRATION_MS, 10_000, 300_000L);
+        String token = cached.generateToken("E001", "USER");
+
+        double legacyNs = measure(token, this::legacyAuthenticate);
+        double parseOnceNs = measure(token, t -> uncached.authenticate(t).orElseThrow().employeeId());
+        double cachedNs = measure(token, t -> cached.authenticate(t).orElseThrow().employeeId());
+
+        System.out.printf("%-12s %10.0f ns/op%n", "legacy", legacyNs);
+        System.out.printf("%-12s %10.0f ns/op (x%.1f)%n", "parse-once", parseOnceNs, legacyNs / parseOnceNs);
+        System.out.printf("%-12s %10.0f ns/op (x%.1f)%n", "cached", cachedNs, legacyNs / cachedNs);
+
+        assertThat(legacyAuthenticate(token)).isEqualTo("E001");
+    }
+
+    // 변경 전 필터 동작 재현: validateToken → getEmployeeId → getRole
+    private String legacyAuthenticate(String token) {
+        parseLegacy(token);
+        String employeeId = parseLegacy(token).getSubject();
+        String role = parseLegacy(token).get("role", String.class);
+        return role != null ? employeeId : null;
+    }
+
+    private Claims parseLegacy(String token) {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    private double measure(String token, Function<String, String> authenticate) {
+        for (int i = 0; i < WARMUP; i++) {
+            authenticate.apply(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (authenticate.apply(token) == null) {
+                throw new IllegalStateException("authentication failed");
+            }
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+}
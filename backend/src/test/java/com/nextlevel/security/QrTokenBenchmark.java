@@ -0,0 +1,75 @@
+package com.nextlevel.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QR 토큰 형식 비교 마이크로벤치마크. (./gradlew benchmark)
+ * - jwt: 기존 QR JWT (HS256, subject + type 클레임)
+ * - compact: CompactQrToken (Base32, 잘린 HMAC)
+ * 발급·검증 비용과 인코딩 길이를 출력한다.
+ */
+@Tag("benchmark")
+class QrTokenBenchmark {
+
+    private static final String SECRET = "nextlevel-onlyone-fair-hagojabbi-secret-key-2024-minimum-256bits";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+    private final CompactQrToken compact = new CompactQrToken(SECRET.getBytes(), System::currentTimeMillis);
+
+    @Test
+    void signVerifyCostAndEncodedLength() {
+        String jwtToken = signJwt("E001");
+        String compactToken = compact.encode("E001", System.currentTimeMillis() + 600_000L);
+
+        double jwtSignNs = measure(() -> signJwt("E001"));
+        double compactSignNs = measure(() -> compact.encode("E001", System.currentTimeMillis() + 600_000L));
+        double jwtVerifyNs = measure(() -> parser.parseSignedClaims(jwtToken).getPayload().getSubject());
+        double compactVerifyNs = measure(() -> compact.decode(compactToken));
+
+        System.out.printf("%-8s %6s %12s %12s%n", "format", "chars", "sign ns/op", "verify ns/op");
+        System.out.printf("%-8s %6d %12.0f %12.0f%n", "jwt", jwtToken.length(), jwtSignNs, jwtVerifyNs);
+        System.out.printf("%-8s %6d %12.0f %12.0f%n", "compact", compactToken.length(), compactSignNs, compactVerifyNs);
+        System.out.printf("verify speedup x%.1f, length %.0f%%%n",
+                jwtVerifyNs / compactVerifyNs, 100.0 * compactToken.length() / jwtToken.length());
+
+        assertThat(compact.decode(compactToken)).isEqualTo("E001");
+        assertThat(compactToken.length()).isLessThan(jwtToken.length());
+    }
+
+    private String signJwt(String employeeId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(employeeId)
+                .claim("type", "QR")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 600_000L))
+                .signWith(key)
+                .compact();
+    }
+
+    private double measure(Supplier<String> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (operation.get() == null) {
+                throw new IllegalStateException("operation failed");
+            }
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,82 @@
+package com.nextlevel.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StompAuthChannelInterceptorTest {
+
+    private static final String SECRET = "nextlevel-onlyone-fair-hagojabbi-secret-key-2024-minimum-256bits";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 100, 60_000L);
+    private final StompAuthChannelInterceptor interceptor = new StompAuthChannelInterceptor(jwtTokenProvider);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void connectWithAccessTokenSetsTheEmployeeAsPrincipal() {
+        Message<?> message = interceptor.preSend(
+                connect("Bearer " + jwtTokenProvider.generateToken("E001", "USER")), channel);
+
+        Principal user = StompHeaderAccessor.wrap(message).getUser();
+        assertThat(user).isNotNull();
+        assertThat(user.getName()).isEqualTo("E001");
+    }
+
+    @Test
+    void connectWithoutValidAccessTokenIsRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(connect(null), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect("Bearer not-a-token"), channel))
+                .isInstanceOf(MessagingException.class);
+        // QR 토큰은 role이 없어 접속 토큰으로 쓸 수 없다
+        assertThatThrownBy(() -> interceptor.preSend(
+                connect("Bearer " + jwtTokenProvider.generateQrToken("E001")), channel))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    void subscribeIsLimitedToOwnUserQueuesAndTopics() {
+        assertThat(interceptor.preSend(subscribe("/user/queue/visits", "E001"), channel)).isNotNull();
+        assertThat(interceptor.preSend(subscribe("/topic/leaderboard", "E001"), channel)).isNotNull();
+
+        // 다른 사용자의 세션 큐나 브로커 큐를 직접 구독할 수 없다
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/queue/visits-userab12cd34", "E001"), channel))
+                .isInstanceOf(MessagingException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/queue/missions", "E001"), channel))
+                .isInstanceOf(MessagingException.class);
+        // 인증되지 않은 세션은 어떤 경로도 구독할 수 없다
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/leaderboard", null), channel))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    private Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribe(String destination, String employeeId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        if (employeeId != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(employeeId, null, List.of()));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
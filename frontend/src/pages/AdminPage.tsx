@@ -2,6 +2,7 @@ import { useEffect, useState } from 'react'
 import styled from 'styled-components'
 import { useNavigate } from 'react-router-dom'
 import apiClient from '../services/api'
+import { subscribeDashboard } from '../services/dashboardStream'
 import { BackButton, PageHeader, PageTitle } from '../components/common/Card'
 
 interface Dashboard {
@@ -9,6 +10,9 @@ interface Dashboard {
   totalBooths: number
   totalVisits: number
   totalEvaluations: number
+  goodsSold: number
+  pointsIssued: number
+  zoneVisits: Record<string, number>
 }
 
 interface RankingItem {
@@ -42,6 +46,9 @@ export default function AdminPage() {
     }).finally(() => setLoading(false))
   }, [])
 
+  // 통계는 서버가 바뀔 때마다 SSE로 보내 준다 (폴링 없음)
+  useEffect(() => subscribeDashboard<Dashboard>(setDashboard), [])
+
   return (
     <Page>
       <PageHeader>
@@ -72,8 +79,27 @@ export default function AdminPage() {
               <StatValue>{dashboard?.totalEvaluations ?? 0}</StatValue>
               <StatLabel>총 평가 수</StatLabel>
             </StatCard>
+            <StatCard>
+              <StatValue>{dashboard?.goodsSold ?? 0}</StatValue>
+              <StatLabel>굿즈 지급 수</StatLabel>
+            </StatCard>
+            <StatCard>
+              <StatValue>{dashboard?.pointsIssued ?? 0}</StatValue>
+              <StatLabel>발행 포인트</StatLabel>
+            </StatCard>
           </StatsGrid>
 
+          {/* 구역별 방문 */}
+          <SectionTitle>구역별 방문</SectionTitle>
+          <Card>
+            {Object.entries(dashboard?.zoneVisits ?? {}).map(([zone, count]) => (
+              <RankRow key={zone}>
+                <RankBoothId>{zone}</RankBoothId>
+                <RankVotes>{count}회</RankVotes>
+              </RankRow>
+            ))}
+          </Card>
+
           {/* 1등 부스 랭킹 */}
           <SectionTitle>부스 랭킹</SectionTitle>
           <Card>
@@ -14,6 +14,9 @@ export default function BoothDetailPage() {
   const { showToast } = useToast()
   const [booth, setBooth] = useState<BoothDetail | null>(null)
   const [comments, setComments] = useState<Comment[]>([])
+  const [commentCount, setCommentCount] = useState(0)
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [loadingMore, setLoadingMore] = useState(false)
   const [loading, setLoading] = useState(true)
   const [showCommentSheet, setShowCommentSheet] = useState(false)
   const [suggestion, setSuggestion] = useState('')
@@ -24,12 +27,28 @@ export default function BoothDetailPage() {
     Promise.all([
       boothService.getDetail(boothId),
       boothService.getComments(boothId),
-    ]).then(([boothData, commentsData]) => {
+    ]).then(([boothData, commentPage]) => {
       setBooth(boothData)
-      setComments(commentsData)
+      setComments(commentPage.comments)
+      setCommentCount(commentPage.totalCount ?? commentPage.comments.length)
+      setNextCursor(commentPage.nextCursor)
     }).finally(() => setLoading(false))
   }, [boothId])
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) return
+    setLoadingMore(true)
+    try {
+      const page = await boothService.getComments(boothId, nextCursor)
+      setComments(prev => [...prev, ...page.comments])
+      setNextCursor(page.nextCursor)
+    } catch {
+      showToast('제안을 더 불러오지 못했습니다.', 'error')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   const handleSubmitComment = async () => {
     if (!suggestion.trim() || !expectedEffect.trim()) {
       showToast('제안 사항과 기대 효과를 모두 입력해주세요.', 'error')
@@ -39,6 +58,7 @@ export default function BoothDetailPage() {
     try {
       const newComment = await boothService.addComment(boothId, suggestion, expectedEffect)
       setComments(prev => [newComment, ...prev])
+      setCommentCount(prev => prev + 1)
       setSuggestion('')
       setExpectedEffect('')
       setShowCommentSheet(false)
@@ -105,7 +125,7 @@ export default function BoothDetailPage() {
         {/* 제안 섹션 */}
         <SuggestionCard>
           <SuggestionHeader>
-            <SectionLabel>아이디어 제안 ({comments.length})</SectionLabel>
+            <SectionLabel>아이디어 제안 ({commentCount})</SectionLabel>
             <AddButton onClick={() => setShowCommentSheet(true)}>+ 제안하기</AddButton>
           </SuggestionHeader>
           <ProposalHint>해당 제안은 부스에 전달됩니다</ProposalHint>
@@ -124,6 +144,11 @@ export default function BoothDetailPage() {
                   </CommentBody>
                 </CommentCard>
               ))}
+              {nextCursor && (
+                <Button variant="secondary" fullWidth loading={loadingMore} onClick={handleLoadMore}>
+                  더 보기
+                </Button>
+              )}
             </CommentList>
           )}
         </SuggestionCard>
@@ -3,6 +3,8 @@ import { useNavigate } from 'react-router-dom'
 import styled, { keyframes } from 'styled-components'
 import { QRCodeSVG } from 'qrcode.react'
 import { visitService } from '../services/visitService'
+import type { VisitRecord } from '../services/visitService'
+import { subscribeUserQueue } from '../services/userSocket'
 import { useAuth } from '../contexts/AuthContext'
 import BottomNav from '../components/common/BottomNav'
 
@@ -15,6 +17,7 @@ export default function QRPage() {
   const [timeLeft, setTimeLeft] = useState(600)
   const pollRef = useRef<ReturnType<typeof setInterval> | null>(null)
   const lastVisitTime = useRef<number>(Date.now())
+  const socketConnected = useRef(false)
 
   const fetchQr = async () => {
     setLoading(true)
@@ -45,9 +48,23 @@ export default function QRPage() {
     return () => clearInterval(timer)
   }, [expiresAt])
 
-  // 폴링: 방문 감지 시 평가 페이지로 이동
+  // 스캔 알림 구독: 방문이 기록되면 서버가 바로 알려준다
+  useEffect(() => {
+    const unsubscribe = subscribeUserQueue<VisitRecord>('/user/queue/visits', {
+      onConnect: () => { socketConnected.current = true },
+      onClose: () => { socketConnected.current = false },
+      onMessage: (visit) => navigate(`/evaluate/${visit.boothId}`),
+    })
+    return () => {
+      socketConnected.current = false
+      unsubscribe()
+    }
+  }, [navigate])
+
+  // 폴링: WebSocket 연결이 없을 때만 방문을 확인한다
   useEffect(() => {
     pollRef.current = setInterval(async () => {
+      if (socketConnected.current) return
       try {
         const latest = await visitService.getLatestVisit()
         if (latest && new Date(latest.visitedAt).getTime() > lastVisitTime.current) {
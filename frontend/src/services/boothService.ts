@@ -25,6 +25,12 @@ export interface Comment {
   createdAt: string
 }
 
+export interface CommentPage {
+  comments: Comment[]
+  nextCursor: string | null
+  totalCount: number | null
+}
+
 export const boothService = {
   getAll: async (): Promise<Booth[]> => {
     const res = await apiClient.get('/booths')
@@ -36,13 +42,19 @@ export const boothService = {
     return res.data.data
   },
 
+  search: async (query: string, limit = 20): Promise<Booth[]> => {
+    const res = await apiClient.get('/booths/search', { params: { q: query, limit } })
+    return res.data.data
+  },
+
   getDetail: async (boothId: string): Promise<BoothDetail> => {
     const res = await apiClient.get(`/booths/${boothId}`)
     return res.data.data
   },
 
-  getComments: async (boothId: string): Promise<Comment[]> => {
-    const res = await apiClient.get(`/booths/${boothId}/comments`)
+  // 최신순 커서 페이지. cursor를 생략하면 첫 페이지(totalCount 포함)
+  getComments: async (boothId: string, cursor?: string): Promise<CommentPage> => {
+    const res = await apiClient.get(`/booths/${boothId}/comments`, { params: { cursor } })
     return res.data.data
   },
 
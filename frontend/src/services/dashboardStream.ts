@@ -0,0 +1,63 @@
+/**
+ * 관리자 대시보드 SSE 구독 (/api/v1/admin/dashboard/stream).
+ * EventSource는 Authorization 헤더를 보낼 수 없어 fetch 스트림으로 읽고, "dashboard" 이벤트의 data만 처리한다.
+ * 연결이 끊기거나 서버가 닫으면 잠시 후 다시 구독한다.
+ */
+const RECONNECT_DELAY_MS = 3000
+
+export function subscribeDashboard<T>(onMessage: (body: T) => void): () => void {
+  let closed = false
+  let controller: AbortController | null = null
+  let retryTimer: ReturnType<typeof setTimeout> | null = null
+
+  const dispatch = (block: string) => {
+    let event = 'message'
+    const data: string[] = []
+    for (const line of block.split('\n')) {
+      if (line.startsWith('event:')) event = line.slice(6).trim()
+      else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''))
+    }
+    if (event !== 'dashboard' || data.length === 0) return
+    try {
+      onMessage(JSON.parse(data.join('\n')) as T)
+    } catch {}
+  }
+
+  const connect = async () => {
+    controller = new AbortController()
+    try {
+      const res = await fetch('/api/v1/admin/dashboard/stream', {
+        headers: {
+          Accept: 'text/event-stream',
+          Authorization: `Bearer ${localStorage.getItem('accessToken') ?? ''}`,
+        },
+        signal: controller.signal,
+      })
+      if (!res.ok || !res.body) throw new Error(`status ${res.status}`)
+
+      const reader = res.body.pipeThrough(new TextDecoderStream()).getReader()
+      let buffer = ''
+      for (;;) {
+        const { value, done } = await reader.read()
+        if (done) break
+        buffer = (buffer + value).replace(/\r\n?/g, '\n')
+        let end
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          dispatch(buffer.slice(0, end))
+          buffer = buffer.slice(end + 2)
+        }
+      }
+    } catch {
+      // 끊김·인증 실패 모두 재연결로 처리
+    }
+    if (!closed) retryTimer = setTimeout(connect, RECONNECT_DELAY_MS)
+  }
+
+  connect()
+
+  return () => {
+    closed = true
+    if (retryTimer) clearTimeout(retryTimer)
+    controller?.abort()
+  }
+}
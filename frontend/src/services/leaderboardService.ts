@@ -0,0 +1,29 @@
+import apiClient from './api'
+
+export interface LeaderboardEntry {
+  rank: number
+  employeeId: string
+  name: string
+  totalPoints: number
+  missionsCompleted: number
+}
+
+export interface MyRank {
+  rank: number | null
+  participants: number
+  totalPoints: number
+  missionsCompleted: number
+}
+
+// 실시간 갱신은 STOMP /topic/leaderboard 구독 (상위 10명, 바뀐 경우에만 1초 주기)
+export const leaderboardService = {
+  getTop: async (limit = 10): Promise<LeaderboardEntry[]> => {
+    const res = await apiClient.get('/leaderboard', { params: { limit } })
+    return res.data.data
+  },
+
+  getMyRank: async (): Promise<MyRank> => {
+    const res = await apiClient.get('/leaderboard/me')
+    return res.data.data
+  },
+}
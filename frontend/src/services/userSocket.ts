@@ -0,0 +1,60 @@
+/**
+ * 사용자 알림용 STOMP over WebSocket 클라이언트.
+ * Backend /ws 엔드포인트에 CONNECT(JWT) 후 /user/queue/** 하나를 구독한다.
+ * 필요한 프레임(CONNECT, SUBSCRIBE, CONNECTED, MESSAGE, ERROR)만 처리하는 최소 구현이다.
+ */
+const NULL_CHAR = '\u0000'
+
+interface SubscribeOptions<T> {
+  onMessage: (body: T) => void
+  onConnect?: () => void
+  onClose?: () => void
+}
+
+export function subscribeUserQueue<T>(destination: string, options: SubscribeOptions<T>): () => void {
+  const token = localStorage.getItem('accessToken')
+  const protocol = window.location.protocol === 'https:' ? 'wss' : 'ws'
+  const socket = new WebSocket(`${protocol}://${window.location.host}/ws`)
+
+  const sendFrame = (command: string, headers: Record<string, string>) => {
+    const headerLines = Object.entries(headers).map(([key, value]) => `${key}:${value}`).join('\n')
+    socket.send(`${command}\n${headerLines}\n\n${NULL_CHAR}`)
+  }
+
+  socket.onopen = () => {
+    sendFrame('CONNECT', {
+      'accept-version': '1.2',
+      'heart-beat': '0,0',
+      Authorization: `Bearer ${token ?? ''}`,
+    })
+  }
+
+  socket.onmessage = (event) => {
+    for (const frame of String(event.data).split(NULL_CHAR)) {
+      const trimmed = frame.replace(/^\n+/, '')
+      if (!trimmed) continue
+
+      const bodyStart = trimmed.indexOf('\n\n')
+      const command = trimmed.slice(0, trimmed.indexOf('\n'))
+      const body = bodyStart >= 0 ? trimmed.slice(bodyStart + 2) : ''
+
+      if (command === 'CONNECTED') {
+        sendFrame('SUBSCRIBE', { id: 'sub-0', destination })
+        options.onConnect?.()
+      } else if (command === 'MESSAGE') {
+        try {
+          options.onMessage(JSON.parse(body) as T)
+        } catch {}
+      } else if (command === 'ERROR') {
+        socket.close()
+      }
+    }
+  }
+
+  socket.onclose = () => options.onClose?.()
+
+  return () => {
+    socket.onclose = null
+    socket.close()
+  }
+}